@@ -0,0 +1,264 @@
+package com.example.languagemod;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+
+/**
+ * Checks typed flashcard answers against a set of acceptable answers, tolerating small typos.
+ * <p>
+ * The acceptable answers are normalized once, either when the card is shown or ahead of time by the
+ * translation store, and stored in a trie. Each check
+ * normalizes the typed answer and walks the trie once, computing one banded edit-distance row per trie
+ * node, so answers that share a prefix share that work and a branch is abandoned as soon as every cell
+ * in its row exceeds the allowed distance. The rows are thread-local and reused, so a check allocates
+ * nothing beyond the normalized answer.
+ */
+public class AnswerMatcher {
+    private static final ThreadLocal<int[][]> ROWS = ThreadLocal.withInitial(() -> new int[2][64]);
+    private static final ThreadLocal<int[][]> TRIE_ROWS = ThreadLocal.withInitial(() -> new int[32][64]);
+    
+    // Trie of normalized answers with node 0 as the root; children are linked through first child and next sibling
+    private final char[] labels;
+    private final int[] firstChild;
+    private final int[] nextSibling;
+    // Allowed distance for the answer ending at each node, -1 where no answer ends
+    private final int[] allowed;
+    private final int nodeCount;
+    private final int maxDistance;
+    private final int maxLength;
+    
+    private AnswerMatcher(Collection<String> answers, boolean folded) {
+        int capacity = 1;
+        for (String answer : answers) {
+            capacity += answer.length();
+        }
+        char[] labels = new char[capacity];
+        int[] firstChild = new int[capacity];
+        int[] nextSibling = new int[capacity];
+        int[] allowed = new int[capacity];
+        Arrays.fill(firstChild, -1);
+        Arrays.fill(nextSibling, -1);
+        Arrays.fill(allowed, -1);
+        
+        int nodeCount = 1;
+        int maxDistance = 0;
+        int maxLength = 0;
+        for (String answer : answers) {
+            String normalized = folded ? answer : normalize(answer);
+            int node = 0;
+            for (int i = 0; i < normalized.length(); i++) {
+                char c = normalized.charAt(i);
+                int child = firstChild[node];
+                while (child >= 0 && labels[child] != c) {
+                    child = nextSibling[child];
+                }
+                if (child < 0) {
+                    child = nodeCount++;
+                    labels[child] = c;
+                    nextSibling[child] = firstChild[node];
+                    firstChild[node] = child;
+                }
+                node = child;
+            }
+            // Allow up to 2 character differences for short words, or 15% of word length for longer words
+            allowed[node] = Math.max(2, (int) (normalized.length() * 0.15));
+            maxDistance = Math.max(maxDistance, allowed[node]);
+            maxLength = Math.max(maxLength, normalized.length());
+        }
+        
+        this.labels = labels;
+        this.firstChild = firstChild;
+        this.nextSibling = nextSibling;
+        this.allowed = allowed;
+        this.nodeCount = nodeCount;
+        this.maxDistance = maxDistance;
+        this.maxLength = maxLength;
+    }
+    
+    public static AnswerMatcher forAnswer(String expectedAnswer) {
+        return new AnswerMatcher(Collections.singletonList(expectedAnswer), false);
+    }
+    
+    /**
+     * @param answers Every acceptable answer; each gets its own typo allowance based on its length
+     */
+    public static AnswerMatcher forAnswers(Collection<String> answers) {
+        return new AnswerMatcher(answers, false);
+    }
+    
+    /**
+     * Like {@link #forAnswers}, for answers that have already been through {@link #normalize}
+     */
+    public static AnswerMatcher forFoldedAnswers(Collection<String> answers) {
+        return new AnswerMatcher(answers, true);
+    }
+    
+    public boolean matches(String userAnswer) {
+        String normalizedUser = normalize(userAnswer);
+        int n = normalizedUser.length();
+        
+        // Exact answers are a plain trie walk
+        int node = 0;
+        for (int i = 0; i < n && node >= 0; i++) {
+            node = child(node, normalizedUser.charAt(i));
+        }
+        if (node >= 0 && allowed[node] >= 0) {
+            return true;
+        }
+        
+        int[][] rows = TRIE_ROWS.get();
+        if (rows.length < maxLength + 1 || rows[0].length < n + 2) {
+            rows = new int[Math.max(maxLength + 1, rows.length)][Math.max(n + 2, rows[0].length)];
+            TRIE_ROWS.set(rows);
+        }
+        int over = maxDistance + 1;
+        for (int j = 0; j <= n + 1; j++) {
+            rows[0][j] = Math.min(j, over);
+        }
+        if (allowed[0] >= 0 && n <= allowed[0]) {
+            return true;
+        }
+        for (int child = firstChild[0]; child >= 0; child = nextSibling[child]) {
+            if (search(child, 1, normalizedUser, rows)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * @return The number of distinct characters stored across all answers, plus the root
+     */
+    public int getNodeCount() {
+        return nodeCount;
+    }
+    
+    private int child(int node, char c) {
+        int child = firstChild[node];
+        while (child >= 0 && labels[child] != c) {
+            child = nextSibling[child];
+        }
+        return child;
+    }
+    
+    /**
+     * Fill the edit-distance row for a trie node at the given depth and continue into its children
+     * @return Whether an answer within its allowed distance was found in this subtree
+     */
+    private boolean search(int node, int depth, String user, int[][] rows) {
+        int n = user.length();
+        int over = maxDistance + 1;
+        if (depth - maxDistance > n) {
+            return false;
+        }
+        
+        int[] previous = rows[depth - 1];
+        int[] current = rows[depth];
+        int from = Math.max(1, depth - maxDistance);
+        int to = Math.min(n, depth + maxDistance);
+        // Cells left of the band count as too far
+        current[from - 1] = from == 1 ? Math.min(depth, over) : over;
+        int rowMin = current[from - 1];
+        char c = labels[node];
+        for (int j = from; j <= to; j++) {
+            int cost = c == user.charAt(j - 1) ? 0 : 1;
+            int value = Math.min(previous[j - 1] + cost, Math.min(previous[j], current[j - 1]) + 1);
+            current[j] = Math.min(value, over);
+            rowMin = Math.min(rowMin, current[j]);
+        }
+        // Read as previous[j] by the children's last cell
+        current[to + 1] = over;
+        if (rowMin > maxDistance) {
+            return false;
+        }
+        
+        if (allowed[node] >= 0 && to == n && current[n] <= allowed[node]) {
+            return true;
+        }
+        for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+            if (search(child, depth + 1, user, rows)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Trim, strip accents and lower-case, so accented and plain spellings of a word compare equal
+     */
+    public static String normalize(String input) {
+        String trimmed = input.trim();
+        int i = 0;
+        while (i < trimmed.length() && trimmed.charAt(i) < 0x80) {
+            i++;
+        }
+        if (i == trimmed.length()) {
+            return trimmed.toLowerCase(Locale.ROOT);
+        }
+        
+        // Decompose accented letters and drop the combining marks
+        String decomposed = Normalizer.normalize(trimmed, Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        for (int j = 0; j < decomposed.length(); j++) {
+            char c = decomposed.charAt(j);
+            if (c < '\u0300' || c > '\u036F') {
+                folded.append(c);
+            }
+        }
+        return folded.toString().toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * Levenshtein distance between two strings, computed only within maxDistance of the diagonal
+     * @return The distance, or maxDistance + 1 if it is larger than maxDistance
+     */
+    public static int distance(CharSequence a, CharSequence b, int maxDistance) {
+        int n = a.length();
+        int m = b.length();
+        int over = maxDistance + 1;
+        if (Math.abs(n - m) > maxDistance) {
+            return over;
+        }
+        
+        int[][] rows = ROWS.get();
+        if (rows[0].length < m + 2) {
+            rows = new int[2][Math.max(m + 2, rows[0].length * 2)];
+            ROWS.set(rows);
+        }
+        int[] previous = rows[0];
+        int[] current = rows[1];
+        for (int j = 0; j <= m; j++) {
+            previous[j] = Math.min(j, over);
+        }
+        
+        for (int i = 1; i <= n; i++) {
+            int from = Math.max(1, i - maxDistance);
+            int to = Math.min(m, i + maxDistance);
+            // Cells left of the band count as too far
+            current[from - 1] = from == 1 ? Math.min(i, over) : over;
+            int rowMin = current[from - 1];
+            char ca = a.charAt(i - 1);
+            for (int j = from; j <= to; j++) {
+                int cost = ca == b.charAt(j - 1) ? 0 : 1;
+                int value = Math.min(previous[j - 1] + cost, Math.min(previous[j], current[j - 1]) + 1);
+                current[j] = Math.min(value, over);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (to < m) {
+                // Read as previous[j] by the next row's last cell
+                current[to + 1] = over;
+            }
+            if (rowMin > maxDistance) {
+                return over;
+            }
+            
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[m];
+    }
+}
\ No newline at end of file
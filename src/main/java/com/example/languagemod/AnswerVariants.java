@@ -0,0 +1,174 @@
+package com.example.languagemod;
+
+import com.google.gson.stream.JsonReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Derives the set of acceptable answers for a flashcard from its folded translation.
+ * <p>
+ * Variants are produced in folded form (see {@link AnswerMatcher#normalize}) so they can go straight into
+ * {@link AnswerMatcher#forFoldedAnswers}. Besides the translation itself, a card accepts it without parenthetical qualifiers ("Jungla (variante)"
+ * accepts "Jungla"), with attached parentheses spelled out ("Jugador(a)" accepts "Jugadora"), without a
+ * leading article ("El End" accepts "End"), and any synonyms listed for the key in
+ * {@value #SYNONYMS_RESOURCE}, which are folded when loaded and go through the same steps.
+ */
+public final class AnswerVariants {
+    private static final Logger LOGGER = LogManager.getLogger();
+    static final String SYNONYMS_RESOURCE = "/assets/languagemod/answer_synonyms.json";
+    private static final String[] SPANISH_ARTICLES = {"el ", "la ", "los ", "las ", "un ", "una ", "unos ", "unas "};
+    private static final String[] ENGLISH_ARTICLES = {"the ", "a ", "an "};
+    
+    /**
+     * Synonyms by translation key, loaded when first needed. Class initialisation runs once and is visible to
+     * every thread, so cards can be built from the client thread and from bootstrap work alike.
+     */
+    private static final class Synonyms {
+        static final Map<String, List<String>> SPANISH = new HashMap<>();
+        static final Map<String, List<String>> ENGLISH = new HashMap<>();
+        
+        static {
+            loadSynonyms(SPANISH, ENGLISH);
+        }
+    }
+    
+    private AnswerVariants() {
+    }
+    
+    /**
+     * @param key The translation key the card is for
+     * @param foldedAnswer The folded translation the player is asked for
+     * @param spanish Whether the answer is in Spanish
+     * @return Every acceptable answer in folded form, starting with the translation itself
+     */
+    public static List<String> of(String key, String foldedAnswer, boolean spanish) {
+        Set<String> variants = new LinkedHashSet<>();
+        addVariants(foldedAnswer, spanish, variants);
+        for (String synonym : getSynonyms(key, spanish)) {
+            addVariants(synonym, spanish, variants);
+        }
+        return new ArrayList<>(variants);
+    }
+    
+    /**
+     * Drop a leading article from a typed answer, so it can be matched against article-stripped variants
+     */
+    public static String stripArticle(String answer, boolean spanish) {
+        String trimmed = answer.trim();
+        for (String article : spanish ? SPANISH_ARTICLES : ENGLISH_ARTICLES) {
+            if (trimmed.length() > article.length() && trimmed.regionMatches(true, 0, article, 0, article.length())) {
+                return trimmed.substring(article.length()).trim();
+            }
+        }
+        return trimmed;
+    }
+    
+    private static void addVariants(String answer, boolean spanish, Set<String> variants) {
+        String trimmed = answer.trim();
+        addWithoutArticle(trimmed, spanish, variants);
+        if (trimmed.indexOf('(') >= 0) {
+            addWithoutArticle(removeParentheses(trimmed, false), spanish, variants);
+            addWithoutArticle(removeParentheses(trimmed, true), spanish, variants);
+        }
+    }
+    
+    private static void addWithoutArticle(String answer, boolean spanish, Set<String> variants) {
+        if (!answer.isEmpty()) {
+            variants.add(answer);
+            variants.add(stripArticle(answer, spanish));
+        }
+    }
+    
+    /**
+     * @param keepAttached Whether to keep the text of parentheses attached to the end of a word, as in gendered endings
+     */
+    private static String removeParentheses(String answer, boolean keepAttached) {
+        StringBuilder result = new StringBuilder(answer.length());
+        int i = 0;
+        while (i < answer.length()) {
+            char c = answer.charAt(i);
+            int close = c == '(' ? answer.indexOf(')', i) : -1;
+            if (close < 0) {
+                result.append(c);
+                i++;
+                continue;
+            }
+            boolean attached = i > 0 && Character.isLetter(answer.charAt(i - 1));
+            if (keepAttached && attached) {
+                result.append(answer, i + 1, close);
+            }
+            i = close + 1;
+        }
+        return result.toString().replaceAll("\\s+", " ").trim();
+    }
+    
+    private static List<String> getSynonyms(String key, boolean spanish) {
+        List<String> synonyms = (spanish ? Synonyms.SPANISH : Synonyms.ENGLISH).get(key);
+        return synonyms != null ? synonyms : Collections.<String>emptyList();
+    }
+    
+    private static void loadSynonyms(Map<String, List<String>> spanishSynonyms, Map<String, List<String>> englishSynonyms) {
+        try {
+            InputStream inputStream = AnswerVariants.class.getResourceAsStream(SYNONYMS_RESOURCE);
+            if (inputStream == null) {
+                LOGGER.warn("Could not find resource: " + SYNONYMS_RESOURCE);
+                return;
+            }
+            
+            try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+                readSynonyms(reader, spanishSynonyms, englishSynonyms);
+            }
+        } catch (Exception e) {
+            LOGGER.error("Failed to load answer synonyms from resource: " + SYNONYMS_RESOURCE, e);
+        }
+        LOGGER.info("Loaded answer synonyms for {} Spanish and {} English keys", spanishSynonyms.size(), englishSynonyms.size());
+    }
+    
+    /**
+     * Read a {@code {"es_mx": {key: [synonym, ...]}, "en_us": {...}}} object
+     */
+    private static void readSynonyms(Reader input, Map<String, List<String>> spanishSynonyms,
+                                     Map<String, List<String>> englishSynonyms) throws IOException {
+        JsonReader reader = new JsonReader(new BufferedReader(input));
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String language = reader.nextName().toLowerCase(Locale.ROOT);
+            Map<String, List<String>> target = language.equals("es_mx") ? spanishSynonyms
+                : language.equals("en_us") ? englishSynonyms : null;
+            if (target == null) {
+                LOGGER.warn("Ignoring answer synonyms for unknown language '{}'", language);
+                reader.skipValue();
+                continue;
+            }
+            
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String key = reader.nextName();
+                List<String> synonyms = new ArrayList<>();
+                reader.beginArray();
+                while (reader.hasNext()) {
+                    synonyms.add(AnswerMatcher.normalize(reader.nextString()));
+                }
+                reader.endArray();
+                target.put(key, synonyms);
+            }
+            reader.endObject();
+        }
+        reader.endObject();
+    }
+}
\ No newline at end of file
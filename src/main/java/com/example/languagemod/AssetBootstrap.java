@@ -0,0 +1,111 @@
+package com.example.languagemod;
+
+import com.google.gson.JsonObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Parses the mod's independent assets in parallel while the rest of the modpack loads.
+ * <p>
+ * {@link #start()} is called from the mod constructor and submits the translation and sound loads
+ * (from the compiled {@link TranslationBundle}, or en_us, es_mx and sounds.json without it) and the
+ * progress file parse to a small bounded pool, then builds the {@link VocabularySearchIndex} from the
+ * translations. Consumers join through the {@code await} methods, which
+ * wait up to {@link #JOIN_TIMEOUT_SECONDS} and fall back to parsing on the calling thread if the
+ * background load failed, timed out or was never started.
+ */
+public class AssetBootstrap {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final long JOIN_TIMEOUT_SECONDS = 10;
+    
+    private static volatile CompletableFuture<TranslationStore> translationsFuture;
+    private static volatile CompletableFuture<List<String>> soundKeysFuture;
+    private static volatile CompletableFuture<JsonObject> progressFuture;
+    
+    /**
+     * Start parsing all assets in the background. Subsequent calls do nothing.
+     */
+    public static synchronized void start() {
+        if (translationsFuture != null) {
+            return;
+        }
+        
+        long start = System.nanoTime();
+        int threads = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() - 1));
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "languagemod-bootstrap-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        // The compiled bundle covers translations and sounds in one read; parse the JSON files only without it
+        CompletableFuture<TranslationBundle> bundleFuture = CompletableFuture.supplyAsync(TranslationBundle::load, executor);
+        translationsFuture = bundleFuture.thenCompose(bundle -> {
+            if (bundle != null) {
+                return CompletableFuture.completedFuture(bundle.getTranslations());
+            }
+            CompletableFuture<Map<String, String>> englishFuture = CompletableFuture.supplyAsync(
+                () -> TranslationStore.loadTranslationsFromResource(TranslationStore.EN_US_RESOURCE), executor);
+            CompletableFuture<Map<String, String>> spanishFuture = CompletableFuture.supplyAsync(
+                () -> TranslationStore.loadTranslationsFromResource(TranslationStore.ES_MX_RESOURCE), executor);
+            return englishFuture.thenCombine(spanishFuture, TranslationStore::create);
+        });
+        soundKeysFuture = bundleFuture.thenCompose(bundle -> bundle != null
+            ? CompletableFuture.completedFuture(bundle.getSoundKeys())
+            : CompletableFuture.supplyAsync(ModSounds::readSoundKeysFromJson, executor));
+        progressFuture = CompletableFuture.supplyAsync(ProgressManager::readProgressFile, executor);
+        // Built here so the first /lookup doesn't pay for it on the server thread
+        CompletableFuture<Void> searchIndexFuture = translationsFuture.thenRunAsync(VocabularySearchIndex::getInstance, executor);
+        
+        CompletableFuture.allOf(translationsFuture, soundKeysFuture, progressFuture, searchIndexFuture).whenComplete((result, error) -> {
+            executor.shutdown();
+            LOGGER.info("Asset bootstrap finished in {} ms on {} threads", (System.nanoTime() - start) / 1_000_000, threads);
+        });
+    }
+    
+    public static TranslationStore awaitTranslations() {
+        return await("translations", translationsFuture, () -> {
+            TranslationBundle bundle = TranslationBundle.load();
+            return bundle != null ? bundle.getTranslations() : TranslationStore.load();
+        });
+    }
+    
+    public static List<String> awaitSoundKeys() {
+        return await("sounds.json", soundKeysFuture, () -> {
+            TranslationBundle bundle = TranslationBundle.load();
+            return bundle != null ? bundle.getSoundKeys() : ModSounds.readSoundKeysFromJson();
+        });
+    }
+    
+    /**
+     * @return The parsed progress file, or null if there is none
+     */
+    public static JsonObject awaitProgress() {
+        return await("progress file", progressFuture, ProgressManager::readProgressFile);
+    }
+    
+    private static <T> T await(String name, CompletableFuture<T> future, Supplier<T> fallback) {
+        if (future == null) {
+            return fallback.get();
+        }
+        try {
+            return future.get(JOIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            LOGGER.warn("Interrupted waiting for background {} load, loading on this thread", name);
+        } catch (Exception e) {
+            LOGGER.warn("Background {} load failed or timed out, loading on this thread", name, e);
+        }
+        return fallback.get();
+    }
+}
\ No newline at end of file
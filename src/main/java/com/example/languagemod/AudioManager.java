@@ -1,19 +1,63 @@
 package com.example.languagemod;
 
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.audio.ISound;
 import net.minecraft.client.audio.SimpleSound;
+import net.minecraft.client.audio.SoundHandler;
+import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundCategory;
-import net.minecraft.util.SoundEvent;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Plays the Spanish pronunciation of a translation key through Minecraft's sound system.
+ * <p>
+ * Each press plays the sound once, using the configured {@link PlaybackMode}. The playback speed is the
+ * sound's pitch, which OpenAL applies by resampling the already decoded buffer, so changing it never
+ * re-decodes anything. Non-positional sounds are built once per key and speed and reused. Pressing again while a pronunciation is still playing restarts it rather
+ * than stacking another channel on top. Per-press logging is only written when debug logging is on.
+ */
 public class AudioManager {
     private static final Logger LOGGER = LogManager.getLogger();
     private static AudioManager instance;
+    // The sound engine clamps pitch to this range
+    public static final float MIN_PLAYBACK_SPEED = 0.5f;
+    public static final float MAX_PLAYBACK_SPEED = 2.0f;
+    
+    /**
+     * How a pronunciation is played
+     */
+    public enum PlaybackMode {
+        // Non-positional, at full volume wherever the player is facing
+        UI,
+        // At the player's position, like a sound in the world
+        LOCAL;
+        
+        /**
+         * @return The mode with this name, ignoring case, or null if there is none
+         */
+        public static PlaybackMode byName(String name) {
+            for (PlaybackMode mode : values()) {
+                if (mode.name().equalsIgnoreCase(name)) {
+                    return mode;
+                }
+            }
+            return null;
+        }
+    }
     
     private boolean audioEnabled = true;
     private float volumeMultiplier = 1.0f;
-    private float playbackSpeed = 1.0f; // Note: Minecraft doesn't support variable playback speed
+    private float playbackSpeed = 1.0f;
+    private PlaybackMode playbackMode = PlaybackMode.UI;
+    private boolean debugLogging = false;
+    // Prebuilt non-positional sounds by translation key at the current speed, only used in UI mode
+    private final Map<String, ISound> soundCache = new HashMap<>();
+    // The pronunciation started last, stopped if another starts while it still plays
+    private ISound currentSound;
     
     public AudioManager() {
         instance = this;
@@ -42,14 +86,11 @@ public class AudioManager {
             return;
         }
         
-        LOGGER.info("Playing audio for key: " + translationKey);
-        
-        // Get the registered sound event from ModSounds
-        SoundEvent soundEvent = ModSounds.getSoundEvent(translationKey);
-        if (soundEvent == null) {
-            LOGGER.debug("No sound event registered for key: {}", translationKey);
+        if (!ModSounds.hasSound(translationKey)) {
+            LOGGER.debug("No sound for key: {}", translationKey);
             return;
         }
+        AudioPrefetcher.getInstance().recordPlay(translationKey);
         
         try {
             Minecraft mc = Minecraft.getInstance();
@@ -58,66 +99,79 @@ public class AudioManager {
                 return;
             }
             
-            // Get volume settings from Minecraft
-            float masterVolume = mc.options.getSoundSourceVolume(SoundCategory.MASTER);
-            float blocksVolume = mc.options.getSoundSourceVolume(SoundCategory.BLOCKS);
-            float recordsVolume = mc.options.getSoundSourceVolume(SoundCategory.RECORDS);
-            
-            LOGGER.info("Volume settings - Master: {}, Blocks: {}, Records: {}", masterVolume, blocksVolume, recordsVolume);
-            
-            // Try multiple playback methods
-            LOGGER.info("Attempting multiple playback methods for sound: {}", translationKey);
-            
-            // Method 1: Play at player position
-            mc.level.playSound(mc.player, mc.player.blockPosition(), soundEvent, 
-                SoundCategory.MASTER, 1.0f, 1.0f);
-            LOGGER.info("Method 1: Played using world.playSound at player position");
-            
-            // Method 2: Play local sound
-            mc.level.playLocalSound(mc.player.getX(), mc.player.getY(), mc.player.getZ(), 
-                soundEvent, SoundCategory.MASTER, 1.0f, 1.0f, false);
-            LOGGER.info("Method 2: Played using playLocalSound");
-            
-            // Method 3: SimpleSound with different approach
-            SimpleSound sound = SimpleSound.forUI(soundEvent, 1.0f, 1.0f);
-            mc.getSoundManager().play(sound);
-            LOGGER.info("Method 3: Played using SimpleSound.forUI");
+            ISound sound;
+            if (playbackMode == PlaybackMode.UI) {
+                sound = soundCache.get(translationKey);
+                if (sound == null) {
+                    sound = createSound(ModSounds.getSoundLocation(translationKey), playbackSpeed, playbackMode, 0.0D, 0.0D, 0.0D);
+                    soundCache.put(translationKey, sound);
+                }
+            } else {
+                // Positional sounds depend on where the player is, so they are built per press
+                sound = createSound(ModSounds.getSoundLocation(translationKey), playbackSpeed, playbackMode,
+                    mc.player.getX(), mc.player.getY(), mc.player.getZ());
+            }
             
-            LOGGER.info("Sound event location: {}", soundEvent.getLocation());
+            SoundHandler soundManager = mc.getSoundManager();
+            if (currentSound != null && soundManager.isActive(currentSound)) {
+                soundManager.stop(currentSound);
+                if (debugLogging) {
+                    LOGGER.info("Stopped the previous pronunciation before playing {}", translationKey);
+                }
+            }
+            soundManager.play(sound);
+            currentSound = sound;
             
+            if (debugLogging) {
+                LOGGER.info("Playing {} ({}) in {} mode at {}x", translationKey, sound.getLocation(), playbackMode, playbackSpeed);
+            }
         } catch (Exception e) {
             LOGGER.error("Failed to play audio for key: " + translationKey, e);
         }
     }
     
+    /**
+     * Build the sound for one pronunciation, with the playback speed as its pitch
+     * @param x Ignored in UI mode, like y and z
+     */
+    static ISound createSound(ResourceLocation location, float speed, PlaybackMode mode, double x, double y, double z) {
+        if (mode == PlaybackMode.UI) {
+            // Same as SimpleSound.forUI, but by location so no registered SoundEvent is needed
+            return new SimpleSound(location, SoundCategory.MASTER, 1.0f, speed, false, 0, ISound.AttenuationType.NONE,
+                0.0D, 0.0D, 0.0D, true);
+        }
+        return new SimpleSound(location, SoundCategory.MASTER, 1.0f, speed, false, 0, ISound.AttenuationType.LINEAR,
+            x, y, z, false);
+    }
+    
     /**
      * Check if audio is available for a given translation key
-     * This checks if the sound event is registered
+     * This checks if sounds.json has a sound for it
      */
     public boolean hasAudioForKey(String translationKey) {
         if (!audioEnabled || translationKey == null) {
             return false;
         }
         
-        SoundEvent soundEvent = ModSounds.getSoundEvent(translationKey);
-        return soundEvent != null;
+        return ModSounds.hasSound(translationKey);
     }
     
     /**
      * Register all possible sound events based on available translation keys
      * This should be called during mod setup with all known translation keys
      */
-    public void registerAllSounds(java.util.Map<String, String> translationKeys) {
-        ModSounds.registerAllSounds(translationKeys);
+    public void registerAllSounds(TranslationStore translations) {
+        ModSounds.registerAllSounds(translations);
     }
     
     /**
      * Pre-register common sound events that we know we'll need
-     * This is now handled automatically during ModSounds static initialization
+     * This is now handled by the sound index built during mod loading
      */
     public void preregisterCommonSounds() {
-        LOGGER.info("Sound pre-registration is handled automatically during class loading");
-        LOGGER.info("Currently have {} sound events registered", getRegisteredSoundCount());
+        LOGGER.info("Sound availability is indexed during mod loading");
+        LOGGER.info("Currently have {} sounds available, {} sound events registered",
+            ModSounds.getAvailableSoundCount(), getRegisteredSoundCount());
     }
     
     public boolean isAudioEnabled() {
@@ -129,17 +183,47 @@ public class AudioManager {
         LOGGER.info("Audio enabled: " + enabled);
     }
     
+    /**
+     * Set how fast pronunciations play, clamped to {@link #MIN_PLAYBACK_SPEED}-{@link #MAX_PLAYBACK_SPEED}.
+     * Slower speeds also lower the pitch.
+     */
     public void setPlaybackSpeed(float speed) {
-        // Note: Minecraft's sound system doesn't support variable playback speed
-        // This is kept for API compatibility but has no effect
-        this.playbackSpeed = Math.max(0.25f, Math.min(2.0f, speed));
-        LOGGER.info("Playback speed set to: {} (Note: Minecraft doesn't support variable speed)", this.playbackSpeed);
+        float clamped = Math.max(MIN_PLAYBACK_SPEED, Math.min(MAX_PLAYBACK_SPEED, speed));
+        if (clamped != playbackSpeed) {
+            playbackSpeed = clamped;
+            soundCache.clear();
+        }
+        LOGGER.info("Playback speed set to: {}", this.playbackSpeed);
     }
     
     public float getPlaybackSpeed() {
         return this.playbackSpeed;
     }
     
+    public PlaybackMode getPlaybackMode() {
+        return playbackMode;
+    }
+    
+    public void setPlaybackMode(PlaybackMode mode) {
+        if (mode != playbackMode) {
+            playbackMode = mode;
+            soundCache.clear();
+            LOGGER.info("Audio playback mode set to: {}", mode);
+        }
+    }
+    
+    public boolean isDebugLogging() {
+        return debugLogging;
+    }
+    
+    /**
+     * Log every pronunciation that is played, for debugging audio problems
+     */
+    public void setDebugLogging(boolean enabled) {
+        this.debugLogging = enabled;
+        LOGGER.info("Audio debug logging: " + enabled);
+    }
+    
     /**
      * Get the number of registered sound events
      */
@@ -0,0 +1,359 @@
+package com.example.languagemod;
+
+import net.minecraft.block.Block;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.audio.AudioStreamBuffer;
+import net.minecraft.client.audio.AudioStreamManager;
+import net.minecraft.client.audio.Sound;
+import net.minecraft.client.audio.SoundEngine;
+import net.minecraft.client.audio.SoundEventAccessor;
+import net.minecraft.client.audio.SoundHandler;
+import net.minecraft.entity.EntityType;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.BlockRayTraceResult;
+import net.minecraft.util.math.EntityRayTraceResult;
+import net.minecraft.util.math.RayTraceResult;
+import net.minecraft.util.registry.Registry;
+import net.minecraft.world.biome.Biome;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads the pronunciation of whatever the speak key would play before it is pressed.
+ * <p>
+ * Each client tick compares the block, entity type, held item and biome under the player with the last
+ * ones seen, so ticks where nothing changed cost a few reference compares. When one changes, its sound is
+ * requested from the sound engine's buffer library, which reads and decodes the OGG on Minecraft's
+ * background executor and keeps the result, so the first press plays straight from memory. The engine
+ * never drops buffers by itself, so the prefetched words are kept in an LRU of at most
+ * {@link #MAX_PREFETCHED_WORDS}, and a word that falls out is removed from the engine's cache again. A word
+ * that gets played leaves the LRU for good: playing it gives the buffer an OpenAL buffer, which only the
+ * engine may free, so it stays cached like any other sound the engine has played. Sounds that were already
+ * loaded, e.g. by an earlier press, are left alone. Presses of those are counted
+ * apart from hits and misses, since prefetching could not have changed them. Client thread only.
+ */
+public class AudioPrefetcher {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final int MAX_PREFETCHED_WORDS = 64;
+    private static AudioPrefetcher instance;
+    
+    // Prefetched translation keys by least recently used, with the OGG location each one loaded
+    private final LinkedHashMap<String, ResourceLocation> prefetched = new LinkedHashMap<>(16, 0.75f, true);
+    
+    // The sound engine's buffer library and its cache, found on the first tick
+    private AudioStreamManager soundBuffers;
+    private Map<ResourceLocation, CompletableFuture<AudioStreamBuffer>> bufferCache;
+    private boolean unavailable = false;
+    
+    private Block block;
+    private EntityType<?> entityType;
+    private Item heldItem;
+    private Biome biome;
+    
+    private long requestCount = 0;
+    private long evictionCount = 0;
+    private long hitCount = 0;
+    private long lateCount = 0;
+    private long failedCount = 0;
+    private long missCount = 0;
+    private long alreadyLoadedCount = 0;
+    // Written by the background executor as loads finish
+    private final AtomicLong loadedCount = new AtomicLong();
+    private final AtomicLong loadNanos = new AtomicLong();
+    private final AtomicLong loadFailureCount = new AtomicLong();
+    // Only the first failed load is logged; the rest are counted in /prefetchstats
+    private final AtomicBoolean loadFailureLogged = new AtomicBoolean();
+    
+    private AudioPrefetcher() {
+    }
+    
+    public static AudioPrefetcher getInstance() {
+        if (instance == null) {
+            instance = new AudioPrefetcher();
+        }
+        return instance;
+    }
+    
+    /**
+     * Prefetch the sounds of any target that changed since the last tick
+     */
+    public void tick(Minecraft mc) {
+        if (unavailable || mc.player == null || mc.level == null || !AudioManager.getInstance().isAudioEnabled()) {
+            return;
+        }
+        
+        Block currentBlock = null;
+        EntityType<?> currentEntityType = null;
+        RayTraceResult rayTrace = mc.hitResult;
+        if (rayTrace != null && rayTrace.getType() == RayTraceResult.Type.BLOCK) {
+            currentBlock = mc.level.getBlockState(((BlockRayTraceResult) rayTrace).getBlockPos()).getBlock();
+        } else if (rayTrace != null && rayTrace.getType() == RayTraceResult.Type.ENTITY) {
+            currentEntityType = ((EntityRayTraceResult) rayTrace).getEntity().getType();
+        }
+        ItemStack heldStack = mc.player.getMainHandItem();
+        Item currentItem = heldStack.isEmpty() ? null : heldStack.getItem();
+        Biome currentBiome = mc.level.getBiome(mc.player.blockPosition());
+        if (currentBlock == block && currentEntityType == entityType && currentItem == heldItem && currentBiome == biome) {
+            return;
+        }
+        
+        if (soundBuffers == null && !findSoundBuffers(mc.getSoundManager())) {
+            return;
+        }
+        
+        TranslationKeyIndex index = TranslationKeyIndex.getInstance();
+        // In the speak key's priority order, so the most likely word is requested first
+        if (currentBlock != block || currentEntityType != entityType) {
+            block = currentBlock;
+            entityType = currentEntityType;
+            if (block != null) {
+                prefetch(mc, index.forBlock(block));
+            } else if (entityType != null) {
+                prefetch(mc, index.forEntityType(entityType));
+            }
+        }
+        if (currentItem != heldItem) {
+            heldItem = currentItem;
+            if (heldItem != null) {
+                prefetch(mc, index.forItem(heldItem));
+            }
+        }
+        if (currentBiome != biome) {
+            biome = currentBiome;
+            ResourceLocation biomeRL = mc.level.registryAccess().registryOrThrow(Registry.BIOME_REGISTRY).getKey(biome);
+            if (biomeRL != null) {
+                prefetch(mc, index.forBiome(biomeRL));
+            }
+        }
+    }
+    
+    private void prefetch(Minecraft mc, TranslationKeyIndex.Entry entry) {
+        if (entry == null || !ModSounds.hasSound(entry.key)) {
+            return;
+        }
+        ResourceLocation loaded = prefetched.get(entry.key);
+        if (loaded != null) {
+            if (bufferCache.containsKey(loaded)) {
+                // Already loaded; the lookup marks it as recently used
+                return;
+            }
+            // Dropped by a resource reload, which clears the engine's cache
+            prefetched.remove(entry.key);
+        }
+        
+        SoundEventAccessor accessor = mc.getSoundManager().getSoundEvent(ModSounds.getSoundLocation(entry.key));
+        if (accessor == null) {
+            return;
+        }
+        Sound sound = accessor.getSound();
+        if (sound == null || sound.shouldStream() || bufferCache.containsKey(sound.getPath())) {
+            // Streamed sounds are never cached, and sounds already in the cache are not ours to evict
+            return;
+        }
+        
+        requestCount++;
+        long start = System.nanoTime();
+        soundBuffers.getCompleteBuffer(sound.getPath()).whenComplete((buffer, error) -> {
+            if (error != null) {
+                loadFailureCount.incrementAndGet();
+                if (loadFailureLogged.compareAndSet(false, true)) {
+                    LOGGER.warn("Failed to prefetch sound {}: {}; further failures are only counted in /prefetchstats",
+                        sound.getPath(), error.toString());
+                }
+            } else {
+                loadNanos.addAndGet(System.nanoTime() - start);
+                loadedCount.incrementAndGet();
+            }
+        });
+        prefetched.put(entry.key, sound.getPath());
+        
+        Iterator<Map.Entry<String, ResourceLocation>> eldest = prefetched.entrySet().iterator();
+        while (prefetched.size() > MAX_PREFETCHED_WORDS) {
+            evict(eldest.next().getValue());
+            eldest.remove();
+        }
+    }
+    
+    private void evict(ResourceLocation path) {
+        evictionCount++;
+        // Never played, so the buffer only holds decoded samples on the Java heap; dropping the entry frees them
+        bufferCache.remove(path);
+    }
+    
+    /**
+     * Record a speak key press, counting whether its sound had been prefetched and finished loading.
+     * Presses are not counted while prefetching is off, or for sounds that are streamed and never cached.
+     */
+    public void recordPlay(String translationKey) {
+        if (bufferCache == null) {
+            return;
+        }
+        // The engine is about to play it, so from here on the buffer is the engine's to keep
+        ResourceLocation path = prefetched.remove(translationKey);
+        if (path != null) {
+            CompletableFuture<AudioStreamBuffer> future = bufferCache.get(path);
+            if (future == null) {
+                // Dropped by a resource reload since it was prefetched
+                missCount++;
+            } else if (!future.isDone()) {
+                lateCount++;
+            } else if (future.isCompletedExceptionally()) {
+                failedCount++;
+            } else {
+                hitCount++;
+            }
+            return;
+        }
+        
+        SoundHandler soundHandler = Minecraft.getInstance().getSoundManager();
+        SoundEventAccessor accessor = soundHandler.getSoundEvent(ModSounds.getSoundLocation(translationKey));
+        Sound sound = accessor != null ? accessor.getSound() : null;
+        if (sound == null || sound.shouldStream()) {
+            return;
+        }
+        if (bufferCache.containsKey(sound.getPath())) {
+            alreadyLoadedCount++;
+        } else {
+            missCount++;
+        }
+    }
+    
+    /**
+     * Find the sound engine's buffer library by field type, which holds in both development and obfuscated names
+     */
+    private boolean findSoundBuffers(SoundHandler soundHandler) {
+        try {
+            SoundEngine engine = fieldOfType(soundHandler, SoundEngine.class);
+            soundBuffers = engine != null ? fieldOfType(engine, AudioStreamManager.class) : null;
+            bufferCache = soundBuffers != null ? findBufferCache(soundBuffers) : null;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOGGER.error("Failed to access the sound buffer cache", e);
+            bufferCache = null;
+        }
+        if (bufferCache == null) {
+            LOGGER.warn("Sound buffer cache not found, audio prefetching is disabled");
+            soundBuffers = null;
+            unavailable = true;
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * Find the buffer library's cache, checking the map's declared key and value types so that another
+     * private map added by a patch is never mistaken for it
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<ResourceLocation, CompletableFuture<AudioStreamBuffer>> findBufferCache(AudioStreamManager soundBuffers)
+            throws IllegalAccessException {
+        for (Field field : soundBuffers.getClass().getDeclaredFields()) {
+            if (field.getType() != Map.class || !(field.getGenericType() instanceof ParameterizedType)) {
+                continue;
+            }
+            Type[] types = ((ParameterizedType) field.getGenericType()).getActualTypeArguments();
+            if (types[0] == ResourceLocation.class && types[1] instanceof ParameterizedType
+                    && ((ParameterizedType) types[1]).getRawType() == CompletableFuture.class
+                    && ((ParameterizedType) types[1]).getActualTypeArguments()[0] == AudioStreamBuffer.class) {
+                field.setAccessible(true);
+                return (Map<ResourceLocation, CompletableFuture<AudioStreamBuffer>>) field.get(soundBuffers);
+            }
+        }
+        return null;
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static <T> T fieldOfType(Object owner, Class<T> type) throws IllegalAccessException {
+        for (Field field : owner.getClass().getDeclaredFields()) {
+            if (field.getType() == type) {
+                field.setAccessible(true);
+                return (T) field.get(owner);
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * @return Whether prefetching was turned off because the sound engine could not be accessed
+     */
+    public boolean isUnavailable() {
+        return unavailable;
+    }
+    
+    public int getPrefetchedCount() {
+        return prefetched.size();
+    }
+    
+    public int getMaxPrefetched() {
+        return MAX_PREFETCHED_WORDS;
+    }
+    
+    public long getRequestCount() {
+        return requestCount;
+    }
+    
+    public long getEvictionCount() {
+        return evictionCount;
+    }
+    
+    /**
+     * @return Presses whose sound was prefetched and already loaded
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+    
+    /**
+     * @return Presses whose sound was prefetched but still loading
+     */
+    public long getLateCount() {
+        return lateCount;
+    }
+    
+    /**
+     * @return Presses whose sound was prefetched but failed to load
+     */
+    public long getFailedCount() {
+        return failedCount;
+    }
+    
+    /**
+     * @return Presses whose sound was neither prefetched nor loaded yet
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+    
+    /**
+     * @return Presses whose sound the engine had already loaded without the prefetcher, e.g. by an earlier press
+     */
+    public long getAlreadyLoadedCount() {
+        return alreadyLoadedCount;
+    }
+    
+    /**
+     * @return Prefetch loads that failed
+     */
+    public long getLoadFailureCount() {
+        return loadFailureCount.get();
+    }
+    
+    /**
+     * @return The average time a prefetched sound took to load in milliseconds, i.e. what each hit saves
+     */
+    public double getAverageLoadMillis() {
+        long loaded = loadedCount.get();
+        return loaded > 0 ? loadNanos.get() / 1_000_000.0 / loaded : 0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,201 @@
+package com.example.languagemod;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Runs delayed work on the client thread, driven by the client tick.
+ * <p>
+ * Delays are converted to an absolute tick when a task is scheduled and tasks wait in a queue ordered by
+ * that tick. The earliest deadline is cached, so a tick with nothing due costs a single compare. Tasks can
+ * be cancelled individually, and tasks tied to a world are cancelled together when the player logs out;
+ * a cancelled task is taken out of the queue straight away, so only pending tasks are ever queued.
+ * Only the client thread may schedule, cancel or tick; other threads should hop over with
+ * {@code Minecraft.getInstance().execute} first.
+ */
+public class ClientTaskScheduler {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final long NEVER = Long.MAX_VALUE;
+    private static final long MILLIS_PER_TICK = 50;
+    // Created eagerly, so setup code on other threads can never race the client thread into creating a second one
+    private static final ClientTaskScheduler INSTANCE = new ClientTaskScheduler();
+    
+    private final PriorityQueue<ScheduledTask> queue = new PriorityQueue<>();
+    private long currentTick;
+    private long nextDeadline = NEVER;
+    private long nextSequence;
+    private int queuedCount;
+    private int runningCount;
+    private long completedCount;
+    private long cancelledCount;
+    private long failedCount;
+    
+    /**
+     * Handle for a scheduled task
+     */
+    public static class ScheduledTask implements Comparable<ScheduledTask> {
+        private final String name;
+        private final long deadline;
+        private final long sequence;
+        private final boolean cancelOnLogout;
+        private final Runnable action;
+        private boolean pending = true;
+        
+        private ScheduledTask(String name, long deadline, long sequence, boolean cancelOnLogout, Runnable action) {
+            this.name = name;
+            this.deadline = deadline;
+            this.sequence = sequence;
+            this.cancelOnLogout = cancelOnLogout;
+            this.action = action;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        /**
+         * @return Whether the task has neither run nor been cancelled yet
+         */
+        public boolean isPending() {
+            return pending;
+        }
+        
+        /**
+         * Stop the task from running; does nothing if it already ran or was cancelled
+         */
+        public void cancel() {
+            ClientTaskScheduler.getInstance().cancel(this);
+        }
+        
+        @Override
+        public int compareTo(ScheduledTask other) {
+            int byDeadline = Long.compare(deadline, other.deadline);
+            return byDeadline != 0 ? byDeadline : Long.compare(sequence, other.sequence);
+        }
+    }
+    
+    private ClientTaskScheduler() {
+    }
+    
+    public static ClientTaskScheduler getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Run a task on the client thread after a delay
+     * @param name Shown in the task metrics and in error logs
+     * @param cancelOnLogout Whether the task belongs to the current world and should not outlive it
+     */
+    public ScheduledTask schedule(String name, long delayMillis, boolean cancelOnLogout, Runnable action) {
+        ScheduledTask task = new ScheduledTask(name, deadlineAfter(delayMillis), nextSequence++, cancelOnLogout, action);
+        queue.add(task);
+        queuedCount++;
+        if (task.deadline < nextDeadline) {
+            nextDeadline = task.deadline;
+        }
+        return task;
+    }
+    
+    /**
+     * @return The tick at which a task scheduled now with the given delay would run
+     */
+    public long deadlineAfter(long delayMillis) {
+        return currentTick + Math.max(1, (delayMillis + MILLIS_PER_TICK - 1) / MILLIS_PER_TICK);
+    }
+    
+    /**
+     * @return The number of client ticks counted so far
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+    
+    private void cancel(ScheduledTask task) {
+        if (task.pending) {
+            task.pending = false;
+            queue.remove(task);
+            queuedCount--;
+            cancelledCount++;
+            if (task.deadline == nextDeadline) {
+                ScheduledTask next = queue.peek();
+                nextDeadline = next != null ? next.deadline : NEVER;
+            }
+        }
+    }
+    
+    /**
+     * Cancel every task that belongs to the world being left
+     */
+    public void cancelLogoutTasks() {
+        List<ScheduledTask> leaving = new ArrayList<>();
+        for (ScheduledTask task : queue) {
+            if (task.cancelOnLogout) {
+                leaving.add(task);
+            }
+        }
+        for (ScheduledTask task : leaving) {
+            cancel(task);
+        }
+        if (!leaving.isEmpty()) {
+            LOGGER.debug("Cancelled {} scheduled tasks on logout", leaving.size());
+        }
+    }
+    
+    /**
+     * Advance one client tick and run any tasks that are due
+     */
+    public void tick() {
+        if (++currentTick < nextDeadline) {
+            return;
+        }
+        
+        ScheduledTask task;
+        while ((task = queue.peek()) != null && task.deadline <= currentTick) {
+            queue.poll();
+            task.pending = false;
+            queuedCount--;
+            runningCount++;
+            try {
+                task.action.run();
+                completedCount++;
+            } catch (RuntimeException e) {
+                failedCount++;
+                LOGGER.error("Scheduled task '{}' failed", task.name, e);
+            } finally {
+                runningCount--;
+            }
+        }
+        ScheduledTask next = queue.peek();
+        nextDeadline = next != null ? next.deadline : NEVER;
+    }
+    
+    /**
+     * @return The number of tasks waiting to run
+     */
+    public int getQueuedCount() {
+        return queuedCount;
+    }
+    
+    /**
+     * @return The number of tasks currently running, i.e. 1 while a task is being run and 0 otherwise
+     */
+    public int getRunningCount() {
+        return runningCount;
+    }
+    
+    public long getCompletedCount() {
+        return completedCount;
+    }
+    
+    public long getCancelledCount() {
+        return cancelledCount;
+    }
+    
+    public long getFailedCount() {
+        return failedCount;
+    }
+}
\ No newline at end of file
@@ -9,7 +9,6 @@ import net.minecraftforge.eventbus.api.SubscribeEvent;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.text.Normalizer;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -19,6 +18,7 @@ public class FlashcardManager {
     
     private String currentFlashcardKey = null;
     private String expectedAnswer = null;
+    private AnswerMatcher answerMatcher = null;
     private boolean askingEnglishToSpanish = true;
     private boolean waitingForAnswer = false;
     private boolean isRetryAttempt = false;
@@ -48,8 +48,13 @@ public class FlashcardManager {
         Minecraft mc = Minecraft.getInstance();
         if (mc.player == null) return;
         
+        TranslationStore translations = TranslationStore.getInstance();
+        int id = translations.indexOf(key);
+        
         if (englishToSpanish) {
             expectedAnswer = spanish;
+            String folded = id >= 0 ? translations.getFoldedSpanish(id) : AnswerMatcher.normalize(spanish);
+            answerMatcher = AnswerMatcher.forFoldedAnswers(AnswerVariants.of(key, folded, true));
             mc.player.displayClientMessage(
                 new StringTextComponent("[Flashcard] ")
                     .withStyle(TextFormatting.AQUA, TextFormatting.BOLD)
@@ -59,6 +64,8 @@ public class FlashcardManager {
             );
         } else {
             expectedAnswer = english;
+            String folded = id >= 0 ? translations.getFoldedEnglish(id) : AnswerMatcher.normalize(english);
+            answerMatcher = AnswerMatcher.forFoldedAnswers(AnswerVariants.of(key, folded, false));
             mc.player.displayClientMessage(
                 new StringTextComponent("[Flashcard] ")
                     .withStyle(TextFormatting.AQUA, TextFormatting.BOLD)
@@ -71,7 +78,7 @@ public class FlashcardManager {
     
     @SubscribeEvent
     public void onChatMessage(ClientChatEvent event) {
-        if (!waitingForAnswer || expectedAnswer == null) {
+        if (!waitingForAnswer || answerMatcher == null) {
             return;
         }
         
@@ -85,8 +92,8 @@ public class FlashcardManager {
         // Cancel the event so the message doesn't get sent to server
         event.setCanceled(true);
         
-        // Check the answer
-        boolean correct = checkAnswer(message, expectedAnswer);
+        // Check the answer, ignoring a typed article since every variant also exists without one
+        boolean correct = answerMatcher.matches(AnswerVariants.stripArticle(message, askingEnglishToSpanish));
         
         Minecraft mc = Minecraft.getInstance();
         if (mc.player == null) return;
@@ -111,6 +118,7 @@ public class FlashcardManager {
             waitingForAnswer = false;
             currentFlashcardKey = null;
             expectedAnswer = null;
+            answerMatcher = null;
         } else {
             mc.player.displayClientMessage(
                 new StringTextComponent("[INCORRECT] ")
@@ -133,62 +141,6 @@ public class FlashcardManager {
         }
     }
     
-    private boolean checkAnswer(String userAnswer, String correctAnswer) {
-        // Normalize both strings
-        String normalizedUser = normalizeString(userAnswer);
-        String normalizedCorrect = normalizeString(correctAnswer);
-        
-        // First check for exact match (after normalization)
-        if (normalizedUser.equalsIgnoreCase(normalizedCorrect)) {
-            return true;
-        }
-        
-        // Calculate Levenshtein distance
-        int distance = calculateLevenshteinDistance(normalizedUser.toLowerCase(), normalizedCorrect.toLowerCase());
-        
-        // Allow up to 2 character differences for short words, or 15% of word length for longer words
-        int maxAllowedDistance = Math.max(2, (int)(normalizedCorrect.length() * 0.15));
-        
-        return distance <= maxAllowedDistance;
-    }
-    
-    private String normalizeString(String input) {
-        // Remove accents and special characters
-        String normalized = Normalizer.normalize(input, Normalizer.Form.NFD);
-        normalized = normalized.replaceAll("[\\p{InCombiningDiacriticalMarks}]", "");
-        
-        // Trim whitespace
-        normalized = normalized.trim();
-        
-        return normalized;
-    }
-    
-    private int calculateLevenshteinDistance(String s1, String s2) {
-        int[][] dp = new int[s1.length() + 1][s2.length() + 1];
-        
-        for (int i = 0; i <= s1.length(); i++) {
-            dp[i][0] = i;
-        }
-        
-        for (int j = 0; j <= s2.length(); j++) {
-            dp[0][j] = j;
-        }
-        
-        for (int i = 1; i <= s1.length(); i++) {
-            for (int j = 1; j <= s2.length(); j++) {
-                if (s1.charAt(i - 1) == s2.charAt(j - 1)) {
-                    dp[i][j] = dp[i - 1][j - 1];
-                } else {
-                    dp[i][j] = 1 + Math.min(dp[i - 1][j - 1], // substitution
-                                   Math.min(dp[i - 1][j],     // deletion
-                                           dp[i][j - 1]));    // insertion
-                }
-            }
-        }
-        
-        return dp[s1.length()][s2.length()];
-    }
-    
     public boolean isWaitingForAnswer() {
         return waitingForAnswer;
     }
@@ -197,6 +149,7 @@ public class FlashcardManager {
         waitingForAnswer = false;
         currentFlashcardKey = null;
         expectedAnswer = null;
+        answerMatcher = null;
         isRetryAttempt = false;
     }
 }
\ No newline at end of file
@@ -41,13 +41,13 @@ public class KeyInputHandler {
     @SubscribeEvent
     public void onKeyInput(InputEvent.KeyInputEvent event) {
         if (SPEAK_KEY.consumeClick()) {
-            LOGGER.info("F key pressed - handling speak with priority system");
+            logSpeakKey("F key pressed - handling speak with priority system");
             handleSpeakKey();
         }
     }
     
     private void handleSpeakKey() {
-        LOGGER.info("handleSpeakKey() called");
+        logSpeakKey("handleSpeakKey() called");
         
         Minecraft mc = Minecraft.getInstance();
         if (mc.player == null || mc.level == null) {
@@ -69,7 +69,7 @@ public class KeyInputHandler {
             
             if (rayTrace.getType() == RayTraceResult.Type.BLOCK) {
                 translationKey = getBlockTranslationKey((BlockRayTraceResult) rayTrace);
-                LOGGER.info("Looking at block, key: " + translationKey);
+                logSpeakKey("Looking at block, key: {}", translationKey);
                 
                 if (translationKey != null) {
                     audioManager.playAudio(translationKey);
@@ -78,7 +78,7 @@ public class KeyInputHandler {
                 }
             } else if (rayTrace.getType() == RayTraceResult.Type.ENTITY) {
                 translationKey = getEntityTranslationKey((EntityRayTraceResult) rayTrace);
-                LOGGER.info("Looking at entity, key: " + translationKey);
+                logSpeakKey("Looking at entity, key: {}", translationKey);
                 
                 if (translationKey != null) {
                     audioManager.playAudio(translationKey);
@@ -93,7 +93,7 @@ public class KeyInputHandler {
         ItemStack heldItem = mc.player.getMainHandItem();
         if (!heldItem.isEmpty()) {
             String translationKey = getItemTranslationKey(heldItem);
-            LOGGER.info("Holding item, key: " + translationKey);
+            logSpeakKey("Holding item, key: {}", translationKey);
             
             if (translationKey != null) {
                 audioManager.playAudio(translationKey);
@@ -108,15 +108,13 @@ public class KeyInputHandler {
         ResourceLocation biomeRL = mc.level.registryAccess().registryOrThrow(Registry.BIOME_REGISTRY).getKey(biome);
         
         if (biomeRL != null) {
-            String biomeKey = "biome." + biomeRL.toString().replace(':', '.');
-            LOGGER.info("In biome, key: " + biomeKey);
+            String biomeKey = TranslationKeyIndex.getInstance().forBiome(biomeRL).key;
+            logSpeakKey("In biome, key: {}", biomeKey);
             
             audioManager.playAudio(biomeKey);
             
             // Mark biome as discovered
-            if (progressManager != null) {
-                progressManager.markBiomeDiscovered(biomeRL.toString());
-            }
+            markAsDiscovered(biomeKey);
         }
     }
     
@@ -155,23 +153,23 @@ public class KeyInputHandler {
         
         // Check what the player is looking at
         RayTraceResult rayTrace = mc.hitResult;
-        LOGGER.info("RayTrace result: " + (rayTrace != null ? rayTrace.getType() : "null"));
+        logSpeakKey("RayTrace result: {}", rayTrace != null ? rayTrace.getType() : "null");
         
         if (rayTrace != null) {
             switch (rayTrace.getType()) {
                 case BLOCK:
                     String blockKey = getBlockTranslationKey((BlockRayTraceResult) rayTrace);
-                    LOGGER.info("Block translation key: " + blockKey);
+                    logSpeakKey("Block translation key: {}", blockKey);
                     return blockKey;
                 case ENTITY:
                     String entityKey = getEntityTranslationKey((EntityRayTraceResult) rayTrace);
-                    LOGGER.info("Entity translation key: " + entityKey);
+                    logSpeakKey("Entity translation key: {}", entityKey);
                     return entityKey;
                 case MISS:
-                    LOGGER.info("Looking at nothing (MISS), checking held item");
+                    logSpeakKey("Looking at nothing (MISS), checking held item");
                     break;
                 default:
-                    LOGGER.info("Unknown rayTrace type: " + rayTrace.getType());
+                    logSpeakKey("Unknown rayTrace type: {}", rayTrace.getType());
                     break;
             }
         }
@@ -180,11 +178,11 @@ public class KeyInputHandler {
         ItemStack heldItem = mc.player.getMainHandItem();
         if (!heldItem.isEmpty()) {
             String itemKey = getItemTranslationKey(heldItem);
-            LOGGER.info("Held item translation key: " + itemKey);
+            logSpeakKey("Held item translation key: {}", itemKey);
             return itemKey;
         }
         
-        LOGGER.info("No held item found");
+        logSpeakKey("No held item found");
         return null;
     }
     
@@ -194,14 +192,11 @@ public class KeyInputHandler {
             BlockPos targetPos = blockRayTrace.getBlockPos();
             BlockState blockState = mc.level.getBlockState(targetPos);
             Block block = blockState.getBlock();
-            ResourceLocation blockRL = block.getRegistryName();
-            
-            LOGGER.info("Block at " + targetPos + ": " + (blockRL != null ? blockRL.toString() : "null registry name"));
+            TranslationKeyIndex.Entry entry = TranslationKeyIndex.getInstance().forBlock(block);
             
-            if (blockRL != null) {
-                String blockKey = "block." + blockRL.toString().replace(':', '.');
-                LOGGER.info("Generated block translation key: " + blockKey);
-                return blockKey;
+            if (entry != null) {
+                logSpeakKey("Block at {}: {}", targetPos, entry.key);
+                return entry.key;
             } else {
                 LOGGER.warn("Block registry name is null for block: " + block.getClass().getSimpleName());
             }
@@ -214,14 +209,11 @@ public class KeyInputHandler {
     private String getEntityTranslationKey(EntityRayTraceResult entityRayTrace) {
         try {
             Entity entity = entityRayTrace.getEntity();
-            ResourceLocation entityRL = entity.getType().getRegistryName();
-            
-            LOGGER.info("Entity: " + entity.getClass().getSimpleName() + ", Registry: " + (entityRL != null ? entityRL.toString() : "null"));
+            TranslationKeyIndex.Entry entry = TranslationKeyIndex.getInstance().forEntityType(entity.getType());
             
-            if (entityRL != null) {
-                String entityKey = "entity." + entityRL.toString().replace(':', '.');
-                LOGGER.info("Generated entity translation key: " + entityKey);
-                return entityKey;
+            if (entry != null) {
+                logSpeakKey("Entity: {}, translation key: {}", entity.getClass().getSimpleName(), entry.key);
+                return entry.key;
             } else {
                 LOGGER.warn("Entity registry name is null for entity: " + entity.getClass().getSimpleName());
             }
@@ -233,18 +225,22 @@ public class KeyInputHandler {
     
     private String getItemTranslationKey(ItemStack itemStack) {
         try {
-            // Use the item's built-in translation key method
-            String translationKey = itemStack.getItem().getDescriptionId();
-            ResourceLocation itemRL = itemStack.getItem().getRegistryName();
-            
-            LOGGER.info("Item: " + itemStack.getDisplayName().getString() + 
-                       ", Registry: " + (itemRL != null ? itemRL.toString() : "null") + 
-                       ", Translation key: " + translationKey);
-            
+            // Keyed by the item's built-in translation key
+            String translationKey = TranslationKeyIndex.getInstance().forItem(itemStack.getItem()).key;
+            logSpeakKey("Item: {}, translation key: {}", itemStack.getItem().getRegistryName(), translationKey);
             return translationKey;
         } catch (Exception e) {
             LOGGER.error("Error getting item translation key", e);
         }
         return null;
     }
+    
+    /**
+     * Trace how a speak key press was resolved, only while audio debug logging is on
+     */
+    private static void logSpeakKey(String message, Object... params) {
+        if (AudioManager.getInstance().isDebugLogging()) {
+            LOGGER.info(message, params);
+        }
+    }
 }
\ No newline at end of file
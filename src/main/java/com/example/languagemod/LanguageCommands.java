@@ -15,6 +15,7 @@ import org.apache.logging.log4j.Logger;
 
 public class LanguageCommands {
     private static final Logger LOGGER = LogManager.getLogger();
+    private static final int LOOKUP_RESULTS = 8;
     private static ProgressManager progressManager;
     
     public static void setProgressManager(ProgressManager manager) {
@@ -49,10 +50,12 @@ public class LanguageCommands {
         
         // Register /slow command with argument
         LiteralArgumentBuilder<CommandSource> slowCommand = Commands.literal("slow")
-                .then(Commands.argument("speed", com.mojang.brigadier.arguments.FloatArgumentType.floatArg(0.25f, 2.0f))
+                .then(Commands.argument("speed", com.mojang.brigadier.arguments.FloatArgumentType.floatArg(
+                        AudioManager.MIN_PLAYBACK_SPEED, AudioManager.MAX_PLAYBACK_SPEED))
                     .executes(context -> {
                         float speed = com.mojang.brigadier.arguments.FloatArgumentType.getFloat(context, "speed");
-                        AudioManager.getInstance().setPlaybackSpeed(speed);
+                        // Sounds are built and cached on the client thread
+                        Minecraft.getInstance().execute(() -> AudioManager.getInstance().setPlaybackSpeed(speed));
                         
                         context.getSource().sendSuccess(
                             new StringTextComponent("Audio playback speed set to: ")
@@ -71,7 +74,7 @@ public class LanguageCommands {
                             .withStyle(TextFormatting.YELLOW)
                             .append(new StringTextComponent(String.format("%.2fx", currentSpeed))
                                 .withStyle(TextFormatting.WHITE))
-                            .append(new StringTextComponent(" (use /slow <0.25-2.0> to change)")
+                            .append(new StringTextComponent(" (use /slow <0.5-2.0> to change)")
                                 .withStyle(TextFormatting.GRAY)),
                         false
                     );
@@ -81,6 +84,7 @@ public class LanguageCommands {
         // Register /testaudio command for debugging
         LiteralArgumentBuilder<CommandSource> testAudioCommand = Commands.literal("testaudio")
                 .then(Commands.argument("key", com.mojang.brigadier.arguments.StringArgumentType.string())
+                    .suggests(TranslationKeySuggestions.getInstance())
                     .executes(context -> {
                         String key = com.mojang.brigadier.arguments.StringArgumentType.getString(context, "key");
                         AudioManager audioManager = AudioManager.getInstance();
@@ -94,7 +98,7 @@ public class LanguageCommands {
                         );
                         
                         if (audioManager.hasAudioForKey(key)) {
-                            audioManager.playAudio(key);
+                            Minecraft.getInstance().execute(() -> audioManager.playAudio(key));
                             context.getSource().sendSuccess(
                                 new StringTextComponent("Audio file found and playing!")
                                     .withStyle(TextFormatting.GREEN),
@@ -114,7 +118,8 @@ public class LanguageCommands {
         LiteralArgumentBuilder<CommandSource> flashcardCommand = Commands.literal("flashcard")
                 .executes(context -> {
                     if (progressManager != null) {
-                        progressManager.showRandomFlashcard();
+                        ProgressManager pm = progressManager;
+                        Minecraft.getInstance().execute(pm::showRandomFlashcard);
                         context.getSource().sendSuccess(
                             new StringTextComponent("Flashcard triggered!")
                                 .withStyle(TextFormatting.GREEN),
@@ -133,10 +138,10 @@ public class LanguageCommands {
         LiteralArgumentBuilder<CommandSource> progressCommand = Commands.literal("progress")
                 .executes(context -> {
                     if (progressManager != null) {
-                        int discovered = progressManager.getDiscoveredCount();
-                        int total = progressManager.getTotalItemCount();
-                        int mastered = progressManager.getMasteredCount();
-                        int biomes = progressManager.getDiscoveredBiomeCount();
+                        ProgressStats stats = progressManager.getStats();
+                        int discovered = stats.getDiscoveredCount();
+                        int total = stats.getTotalCount();
+                        int mastered = stats.getMasteredCount();
                         
                         context.getSource().sendSuccess(
                             new StringTextComponent("=== Progress Statistics ===")
@@ -150,15 +155,22 @@ public class LanguageCommands {
                             false
                         );
                         context.getSource().sendSuccess(
-                            new StringTextComponent("Items mastered: " + mastered + " (5+ correct flashcards)")
+                            new StringTextComponent("Items mastered: " + mastered + " (reviews spaced 3+ weeks apart)")
                                 .withStyle(TextFormatting.AQUA),
                             false
                         );
-                        context.getSource().sendSuccess(
-                            new StringTextComponent("Biomes discovered: " + biomes)
-                                .withStyle(TextFormatting.YELLOW),
-                            false
-                        );
+                        for (ProgressCategory category : ProgressCategory.values()) {
+                            int categoryTotal = stats.getTotal(category);
+                            if (categoryTotal == 0) {
+                                continue;
+                            }
+                            context.getSource().sendSuccess(
+                                new StringTextComponent(category.getDisplayName() + ": " + stats.getDiscovered(category)
+                                    + "/" + categoryTotal + " discovered, " + stats.getMastered(category) + " mastered")
+                                    .withStyle(TextFormatting.YELLOW),
+                                false
+                            );
+                        }
                     } else {
                         context.getSource().sendFailure(
                             new StringTextComponent("Progress system not initialized!")
@@ -187,7 +199,17 @@ public class LanguageCommands {
                         false
                     );
                     context.getSource().sendSuccess(
-                        new StringTextComponent("/slow [speed] - Set audio playback speed (0.25-2.0)")
+                        new StringTextComponent("/slow [speed] - Set audio playback speed (0.5-2.0)")
+                            .withStyle(TextFormatting.YELLOW),
+                        false
+                    );
+                    context.getSource().sendSuccess(
+                        new StringTextComponent("/lookup <text> - Search English and Spanish translations")
+                            .withStyle(TextFormatting.YELLOW),
+                        false
+                    );
+                    context.getSource().sendSuccess(
+                        new StringTextComponent("/audiomode [ui|local] - Play pronunciations as UI sounds or at your position")
                             .withStyle(TextFormatting.YELLOW),
                         false
                     );
@@ -221,6 +243,26 @@ public class LanguageCommands {
                             .withStyle(TextFormatting.YELLOW),
                         false
                     );
+                    context.getSource().sendSuccess(
+                        new StringTextComponent("/overlaystats [alloc] - Show overlay cache statistics, or toggle allocation tracking")
+                            .withStyle(TextFormatting.YELLOW),
+                        false
+                    );
+                    context.getSource().sendSuccess(
+                        new StringTextComponent("/taskstats - Show scheduled task statistics")
+                            .withStyle(TextFormatting.YELLOW),
+                        false
+                    );
+                    context.getSource().sendSuccess(
+                        new StringTextComponent("/prefetchstats - Show audio prefetch hits and misses")
+                            .withStyle(TextFormatting.YELLOW),
+                        false
+                    );
+                    context.getSource().sendSuccess(
+                        new StringTextComponent("/audiodebug - Toggle logging of every pronunciation played")
+                            .withStyle(TextFormatting.YELLOW),
+                        false
+                    );
                     return 1;
                 });
         
@@ -230,7 +272,7 @@ public class LanguageCommands {
                     ProgressManager pm = progressManager;
                     if (pm != null) {
                         boolean newValue = !pm.isWelcomeMessageEnabled();
-                        pm.setWelcomeMessageEnabled(newValue);
+                        Minecraft.getInstance().execute(() -> pm.setWelcomeMessageEnabled(newValue));
                         context.getSource().sendSuccess(
                             new StringTextComponent("Welcome message is now " + (newValue ? "ENABLED" : "DISABLED"))
                                 .withStyle(newValue ? TextFormatting.GREEN : TextFormatting.RED),
@@ -246,7 +288,9 @@ public class LanguageCommands {
                     .executes(context -> {
                         int minutes = com.mojang.brigadier.arguments.IntegerArgumentType.getInteger(context, "minutes");
                         if (progressManager != null) {
-                            progressManager.setFlashcardIntervalMinutes(minutes);
+                            // Reschedules the review timer, which only the client thread may touch
+                            ProgressManager pm = progressManager;
+                            Minecraft.getInstance().execute(() -> pm.setFlashcardIntervalMinutes(minutes));
                             context.getSource().sendSuccess(
                                 new StringTextComponent("Flashcard interval set to ")
                                     .withStyle(TextFormatting.GREEN)
@@ -310,14 +354,13 @@ public class LanguageCommands {
         // Debug sound command
         LiteralArgumentBuilder<CommandSource> debugSoundCommand = Commands.literal("debugsound")
                 .then(Commands.argument("key", com.mojang.brigadier.arguments.StringArgumentType.string())
+                    .suggests(TranslationKeySuggestions.getInstance())
                     .executes(context -> {
                         String key = com.mojang.brigadier.arguments.StringArgumentType.getString(context, "key");
                         
-                        // Get the sound event
-                        net.minecraft.util.SoundEvent soundEvent = ModSounds.getSoundEvent(key);
-                        if (soundEvent == null) {
+                        if (!ModSounds.hasSound(key)) {
                             context.getSource().sendFailure(
-                                new StringTextComponent("Sound not registered for key: " + key)
+                                new StringTextComponent("No sound available for key: " + key)
                                     .withStyle(TextFormatting.RED)
                             );
                             return 1;
@@ -335,7 +378,7 @@ public class LanguageCommands {
                             false
                         );
                         context.getSource().sendSuccess(
-                            new StringTextComponent("Sound location: " + soundEvent.getLocation())
+                            new StringTextComponent("Sound location: " + ModSounds.getSoundLocation(key))
                                 .withStyle(TextFormatting.YELLOW),
                             false
                         );
@@ -348,10 +391,15 @@ public class LanguageCommands {
                         // Try to play it directly
                         Minecraft mc = Minecraft.getInstance();
                         if (mc.player != null && mc.level != null) {
-                            mc.level.playSound(mc.player, mc.player.blockPosition(), soundEvent, 
-                                net.minecraft.util.SoundCategory.RECORDS, 1.0f, 1.0f);
+                            // By location at the player's position, like a LOCAL mode pronunciation but at normal speed
+                            mc.execute(() -> {
+                                if (mc.player != null) {
+                                    mc.getSoundManager().play(AudioManager.createSound(ModSounds.getSoundLocation(key), 1.0f,
+                                        AudioManager.PlaybackMode.LOCAL, mc.player.getX(), mc.player.getY(), mc.player.getZ()));
+                                }
+                            });
                             context.getSource().sendSuccess(
-                                new StringTextComponent("Attempted to play sound using World.playSound")
+                                new StringTextComponent("Attempted to play sound by location through the sound manager")
                                     .withStyle(TextFormatting.GREEN),
                                 false
                             );
@@ -363,6 +411,7 @@ public class LanguageCommands {
         // Check resource command
         LiteralArgumentBuilder<CommandSource> checkResourceCommand = Commands.literal("checkresource")
                 .then(Commands.argument("key", com.mojang.brigadier.arguments.StringArgumentType.string())
+                    .suggests(TranslationKeySuggestions.getInstance())
                     .executes(context -> {
                         String key = com.mojang.brigadier.arguments.StringArgumentType.getString(context, "key");
                         
@@ -395,6 +444,253 @@ public class LanguageCommands {
                         return 1;
                     }));
         
+        // Overlay cache statistics command
+        LiteralArgumentBuilder<CommandSource> overlayStatsCommand = Commands.literal("overlaystats")
+                .then(Commands.literal("alloc")
+                    .executes(context -> {
+                        OverlayLabelCache labels = OverlayLabelCache.getInstance();
+                        if (!labels.isAllocationTrackingSupported()) {
+                            context.getSource().sendFailure(
+                                new StringTextComponent("Allocation tracking not supported by this JVM")
+                                    .withStyle(TextFormatting.RED)
+                            );
+                            return 1;
+                        }
+                        // The overlay is refreshed on the client thread, so the probe is switched there too
+                        boolean newValue = !labels.isAllocationTracking();
+                        Minecraft.getInstance().execute(() -> labels.setAllocationTracking(newValue));
+                        context.getSource().sendSuccess(
+                            new StringTextComponent("Overlay allocation tracking is now " + (newValue ? "ENABLED" : "DISABLED"))
+                                .withStyle(newValue ? TextFormatting.GREEN : TextFormatting.RED),
+                            false
+                        );
+                        return 1;
+                    }))
+                .executes(context -> {
+                    OverlayLabelCache labels = OverlayLabelCache.getInstance();
+                    context.getSource().sendSuccess(
+                        new StringTextComponent("=== Overlay Cache Stats ===")
+                            .withStyle(TextFormatting.GOLD),
+                        false
+                    );
+                    context.getSource().sendSuccess(
+                        new StringTextComponent("Frames: " + labels.getFrameCount() + ", rebuilds: " + labels.getRebuildCount())
+                            .withStyle(TextFormatting.YELLOW),
+                        false
+                    );
+                    if (labels.isAllocationTracking()) {
+                        context.getSource().sendSuccess(
+                            new StringTextComponent("Average allocation per frame: " + labels.getAverageBytesPerFrame()
+                                + " bytes (probe cost of " + labels.getProbeBytes() + " bytes subtracted)")
+                                .withStyle(TextFormatting.YELLOW),
+                            false
+                        );
+                    } else if (labels.isAllocationTrackingSupported()) {
+                        context.getSource().sendSuccess(
+                            new StringTextComponent("Allocation not tracked; use /overlaystats alloc to measure it")
+                                .withStyle(TextFormatting.GRAY),
+                            false
+                        );
+                    } else {
+                        context.getSource().sendSuccess(
+                            new StringTextComponent("Allocation tracking not supported by this JVM")
+                                .withStyle(TextFormatting.GRAY),
+                            false
+                        );
+                    }
+                    labels.resetStats();
+                    return 1;
+                });
+        
+        // Register /taskstats command to show the client task scheduler's metrics
+        LiteralArgumentBuilder<CommandSource> taskStatsCommand = Commands.literal("taskstats")
+                .executes(context -> {
+                    ClientTaskScheduler tasks = ClientTaskScheduler.getInstance();
+                    context.getSource().sendSuccess(
+                        new StringTextComponent("=== Scheduled Tasks ===")
+                            .withStyle(TextFormatting.GOLD),
+                        false
+                    );
+                    context.getSource().sendSuccess(
+                        new StringTextComponent("Queued: " + tasks.getQueuedCount() + ", running: " + tasks.getRunningCount())
+                            .withStyle(TextFormatting.YELLOW),
+                        false
+                    );
+                    context.getSource().sendSuccess(
+                        new StringTextComponent("Completed: " + tasks.getCompletedCount() + ", cancelled: "
+                            + tasks.getCancelledCount() + ", failed: " + tasks.getFailedCount())
+                            .withStyle(TextFormatting.YELLOW),
+                        false
+                    );
+                    return 1;
+                });
+        
+        // Register /prefetchstats command to show whether prefetching made speak key presses hit loaded sounds
+        LiteralArgumentBuilder<CommandSource> prefetchStatsCommand = Commands.literal("prefetchstats")
+                .executes(context -> {
+                    AudioPrefetcher prefetcher = AudioPrefetcher.getInstance();
+                    context.getSource().sendSuccess(
+                        new StringTextComponent("=== Audio Prefetch Stats ===")
+                            .withStyle(TextFormatting.GOLD),
+                        false
+                    );
+                    if (prefetcher.isUnavailable()) {
+                        context.getSource().sendSuccess(
+                            new StringTextComponent("Sound buffer cache not accessible, prefetching is disabled")
+                                .withStyle(TextFormatting.GRAY),
+                            false
+                        );
+                        return 1;
+                    }
+                    context.getSource().sendSuccess(
+                        new StringTextComponent("Prefetched words: " + prefetcher.getPrefetchedCount() + "/" + prefetcher.getMaxPrefetched()
+                            + ", requests: " + prefetcher.getRequestCount() + ", failed: " + prefetcher.getLoadFailureCount()
+                            + ", evictions: " + prefetcher.getEvictionCount())
+                            .withStyle(TextFormatting.YELLOW),
+                        false
+                    );
+                    context.getSource().sendSuccess(
+                        new StringTextComponent("Presses - hits: " + prefetcher.getHitCount() + ", still loading: "
+                            + prefetcher.getLateCount() + ", failed: " + prefetcher.getFailedCount() + ", misses: "
+                            + prefetcher.getMissCount())
+                            .withStyle(TextFormatting.YELLOW),
+                        false
+                    );
+                    context.getSource().sendSuccess(
+                        new StringTextComponent("Presses not counted, sound already loaded: " + prefetcher.getAlreadyLoadedCount())
+                            .withStyle(TextFormatting.GRAY),
+                        false
+                    );
+                    context.getSource().sendSuccess(
+                        new StringTextComponent(String.format(java.util.Locale.ROOT, "Average load time saved per hit: %.1f ms",
+                            prefetcher.getAverageLoadMillis()))
+                            .withStyle(TextFormatting.YELLOW),
+                        false
+                    );
+                    return 1;
+                });
+        
+        // Register /audiomode command to choose how pronunciations are played
+        LiteralArgumentBuilder<CommandSource> audioModeCommand = Commands.literal("audiomode")
+                .then(Commands.argument("mode", com.mojang.brigadier.arguments.StringArgumentType.word())
+                    .suggests((context, builder) -> {
+                        for (AudioManager.PlaybackMode mode : AudioManager.PlaybackMode.values()) {
+                            builder.suggest(mode.name().toLowerCase(java.util.Locale.ROOT));
+                        }
+                        return builder.buildFuture();
+                    })
+                    .executes(context -> {
+                        String name = com.mojang.brigadier.arguments.StringArgumentType.getString(context, "mode");
+                        AudioManager.PlaybackMode mode = AudioManager.PlaybackMode.byName(name);
+                        if (mode == null) {
+                            context.getSource().sendFailure(
+                                new StringTextComponent("Unknown audio mode: " + name + " (use ui or local)")
+                                    .withStyle(TextFormatting.RED)
+                            );
+                        } else if (progressManager != null) {
+                            ProgressManager pm = progressManager;
+                            Minecraft.getInstance().execute(() -> pm.setAudioPlaybackMode(mode));
+                            context.getSource().sendSuccess(
+                                new StringTextComponent("Audio playback mode set to ")
+                                    .withStyle(TextFormatting.GREEN)
+                                    .append(new StringTextComponent(mode.name().toLowerCase(java.util.Locale.ROOT))
+                                        .withStyle(TextFormatting.WHITE)),
+                                false
+                            );
+                        } else {
+                            context.getSource().sendFailure(
+                                new StringTextComponent("Progress system not initialized!")
+                                    .withStyle(TextFormatting.RED)
+                            );
+                        }
+                        return 1;
+                    }))
+                .executes(context -> {
+                    // No argument provided, show current mode
+                    AudioManager.PlaybackMode mode = AudioManager.getInstance().getPlaybackMode();
+                    context.getSource().sendSuccess(
+                        new StringTextComponent("Current audio playback mode: ")
+                            .withStyle(TextFormatting.YELLOW)
+                            .append(new StringTextComponent(mode.name().toLowerCase(java.util.Locale.ROOT))
+                                .withStyle(TextFormatting.WHITE))
+                            .append(new StringTextComponent(" (use /audiomode <ui|local> to change)")
+                                .withStyle(TextFormatting.GRAY)),
+                        false
+                    );
+                    return 1;
+                });
+        
+        // Register /audiodebug command to toggle per-press audio logging
+        LiteralArgumentBuilder<CommandSource> audioDebugCommand = Commands.literal("audiodebug")
+                .executes(context -> {
+                    AudioManager audioManager = AudioManager.getInstance();
+                    boolean newValue = !audioManager.isDebugLogging();
+                    Minecraft.getInstance().execute(() -> audioManager.setDebugLogging(newValue));
+                    context.getSource().sendSuccess(
+                        new StringTextComponent("Audio debug logging is now " + (newValue ? "ENABLED" : "DISABLED"))
+                            .withStyle(newValue ? TextFormatting.GREEN : TextFormatting.RED),
+                        false
+                    );
+                    return 1;
+                });
+        
+        // Register /lookup command to search both languages, tolerating typos
+        LiteralArgumentBuilder<CommandSource> lookupCommand = Commands.literal("lookup")
+                .then(Commands.argument("text", com.mojang.brigadier.arguments.StringArgumentType.greedyString())
+                    .suggests((context, builder) -> {
+                        for (String suggestion : VocabularySearchIndex.getInstance().suggest(builder.getRemaining(), 10)) {
+                            builder.suggest(suggestion);
+                        }
+                        return builder.buildFuture();
+                    })
+                    .executes(context -> {
+                        String text = com.mojang.brigadier.arguments.StringArgumentType.getString(context, "text");
+                        VocabularySearchIndex index = VocabularySearchIndex.getInstance();
+                        long start = System.nanoTime();
+                        java.util.List<VocabularySearchIndex.Match> matches = index.search(text, LOOKUP_RESULTS);
+                        long elapsed = System.nanoTime() - start;
+                        
+                        if (matches.isEmpty()) {
+                            context.getSource().sendFailure(
+                                new StringTextComponent("No matches for: " + text)
+                                    .withStyle(TextFormatting.RED)
+                            );
+                            return 1;
+                        }
+                        
+                        context.getSource().sendSuccess(
+                            new StringTextComponent("=== Lookup: " + text + " ===")
+                                .withStyle(TextFormatting.GOLD)
+                                .append(new StringTextComponent(String.format(" (%d matches, %.2f ms)", matches.size(), elapsed / 1e6))
+                                    .withStyle(TextFormatting.GRAY)),
+                            false
+                        );
+                        TranslationStore translations = index.getTranslations();
+                        for (VocabularySearchIndex.Match match : matches) {
+                            String key = translations.getKey(match.getId());
+                            ProgressManager.ProgressEntry entry = progressManager != null ? progressManager.getEntry(key) : null;
+                            String status = " [not discovered]";
+                            TextFormatting statusColor = TextFormatting.GRAY;
+                            if (entry != null && entry.isMastered()) {
+                                status = " [mastered]";
+                                statusColor = TextFormatting.AQUA;
+                            } else if (entry != null && entry.isDiscovered()) {
+                                status = " [discovered]";
+                                statusColor = TextFormatting.GREEN;
+                            }
+                            context.getSource().sendSuccess(
+                                new StringTextComponent(translations.getEnglish(match.getId()) + " / " + translations.getSpanish(match.getId()))
+                                    .withStyle(TextFormatting.WHITE)
+                                    .append(new StringTextComponent(" " + key)
+                                        .withStyle(TextFormatting.DARK_GRAY))
+                                    .append(new StringTextComponent(status)
+                                        .withStyle(statusColor)),
+                                false
+                            );
+                        }
+                        return 1;
+                    }));
+        
         dispatcher.register(hintCommand);
         dispatcher.register(skipCommand);
         dispatcher.register(slowCommand);
@@ -407,6 +703,12 @@ public class LanguageCommands {
         dispatcher.register(testVanillaCommand);
         dispatcher.register(debugSoundCommand);
         dispatcher.register(checkResourceCommand);
+        dispatcher.register(overlayStatsCommand);
+        dispatcher.register(taskStatsCommand);
+        dispatcher.register(prefetchStatsCommand);
+        dispatcher.register(lookupCommand);
+        dispatcher.register(audioModeCommand);
+        dispatcher.register(audioDebugCommand);
         
         LOGGER.info("Language commands registered");
     }
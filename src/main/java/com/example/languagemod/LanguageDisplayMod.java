@@ -1,24 +1,12 @@
 package com.example.languagemod;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
 import com.mojang.blaze3d.matrix.MatrixStack;
-import net.minecraft.block.Block;
-import net.minecraft.block.BlockState;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.FontRenderer;
-import net.minecraft.entity.Entity;
 import net.minecraft.entity.LivingEntity;
-import net.minecraft.item.ItemStack;
-import net.minecraft.util.ResourceLocation;
-import net.minecraft.util.math.BlockPos;
-import net.minecraft.util.math.BlockRayTraceResult;
-import net.minecraft.util.math.EntityRayTraceResult;
-import net.minecraft.util.math.RayTraceResult;
-import net.minecraft.util.registry.Registry;
 import net.minecraft.util.text.StringTextComponent;
 import net.minecraft.util.text.TextFormatting;
-import net.minecraft.world.biome.Biome;
+import net.minecraftforge.client.event.ClientPlayerNetworkEvent;
 import net.minecraftforge.client.event.RenderGameOverlayEvent;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
@@ -26,18 +14,13 @@ import net.minecraftforge.fml.common.Mod;
 import net.minecraftforge.fml.event.lifecycle.FMLClientSetupEvent;
 import net.minecraftforge.fml.event.lifecycle.FMLCommonSetupEvent;
 import net.minecraftforge.fml.javafmlmod.FMLJavaModLoadingContext;
+import net.minecraftforge.event.RegistryEvent;
 import net.minecraftforge.event.TickEvent;
 import net.minecraftforge.event.entity.player.PlayerEvent;
+import net.minecraftforge.event.world.WorldEvent;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.io.BufferedReader;
-import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.stream.Collectors;
@@ -46,18 +29,25 @@ import java.util.stream.Collectors;
 public class LanguageDisplayMod {
     private static final Logger LOGGER = LogManager.getLogger();
     private static LanguageDisplayMod instance;
+    private static final long STARTUP_FLASHCARD_DELAY_MILLIS = 3000;
     
-    private Map<String, String> englishTranslations = new HashMap<>();
-    private Map<String, String> spanishTranslations = new HashMap<>();
+    private TranslationStore translations;
     private ProgressManager progressManager;
     
     public LanguageDisplayMod() {
         instance = this;
+        
+        // Parse translations, sounds.json and saved progress in the background while other mods load
+        AssetBootstrap.start();
+        
         FMLJavaModLoadingContext.get().getModEventBus().addListener(this::setup);
         FMLJavaModLoadingContext.get().getModEventBus().addListener(this::doClientStuff);
+        FMLJavaModLoadingContext.get().getModEventBus().addListener(this::onNewRegistry);
         
-        // Register the sound events deferred register
-        ModSounds.SOUNDS.register(FMLJavaModLoadingContext.get().getModEventBus());
+        // The deferred register stays empty unless sound events are registered, so only hook it up then
+        if (ModSounds.isRegisteringSoundEvents()) {
+            ModSounds.SOUNDS.register(FMLJavaModLoadingContext.get().getModEventBus());
+        }
         
         MinecraftForge.EVENT_BUS.register(this);
         MinecraftForge.EVENT_BUS.register(new OverlayRenderer());
@@ -65,6 +55,12 @@ public class LanguageDisplayMod {
         MinecraftForge.EVENT_BUS.register(LanguageCommands.class);
     }
     
+    private void onNewRegistry(final RegistryEvent.NewRegistry event) {
+        // Fired after mod construction but before registries are populated, so the deferred
+        // register still accepts the sound events parsed in the background
+        ModSounds.registerSounds(AssetBootstrap.awaitSoundKeys());
+    }
+    
     private void setup(final FMLCommonSetupEvent event) {
         LOGGER.info("Language Display Mod Setup Starting");
     }
@@ -73,17 +69,24 @@ public class LanguageDisplayMod {
         LOGGER.info("Language Display Mod Client Setup");
         loadTranslations();
         
+        // Index registry targets to their translation keys once
+        TranslationKeyIndex.getInstance().build(translations);
+        
         // Initialize progress manager
         progressManager = new ProgressManager();
+        // Client setup runs on a mod-loading worker; the task scheduler belongs to the client thread
+        event.enqueueWork(progressManager::resetFlashcardTimer);
+        Runtime.getRuntime().addShutdownHook(new Thread(progressManager::shutdown, "languagemod-progress-flush"));
         KeyInputHandler.setProgressManager(progressManager);
         LanguageCommands.setProgressManager(progressManager);
         
         // Initialize audio system
         AudioManager audioManager = AudioManager.getInstance();
-        audioManager.registerAllSounds(englishTranslations);
+        audioManager.registerAllSounds(translations);
         
-        // Log how many sounds were registered
-        LOGGER.info("Total sounds registered: {}", ModSounds.getRegisteredSoundCount());
+        // Log how many sounds are available
+        LOGGER.info("Total sounds available: {} ({} sound events registered)",
+            ModSounds.getAvailableSoundCount(), ModSounds.getRegisteredSoundCount());
         
         // Register keybindings
         KeyInputHandler.register();
@@ -91,42 +94,18 @@ public class LanguageDisplayMod {
     
     private void loadTranslations() {
         try {
-            englishTranslations = loadJsonTranslationsFromResource("/assets/languagemod/lang/en_us.json");
-            spanishTranslations = loadJsonTranslationsFromResource("/assets/languagemod/lang/es_mx.json");
-            
-            LOGGER.info("Loaded {} English translations", englishTranslations.size());
-            LOGGER.info("Loaded {} Spanish translations", spanishTranslations.size());
+            translations = TranslationStore.getInstance();
             
             // Test a few translations
-            LOGGER.info("Test - Stone Sword EN: " + englishTranslations.get("item.minecraft.stone_sword"));
-            LOGGER.info("Test - Stone Sword ES: " + spanishTranslations.get("item.minecraft.stone_sword"));
+            LOGGER.info("Test - Stone Sword EN: " + translations.getEnglish("item.minecraft.stone_sword"));
+            LOGGER.info("Test - Stone Sword ES: " + translations.getSpanish("item.minecraft.stone_sword"));
         } catch (Exception e) {
             LOGGER.error("Failed to load translations", e);
         }
     }
     
-    private Map<String, String> loadJsonTranslationsFromResource(String resourcePath) {
-        Map<String, String> translations = new HashMap<>();
-        try {
-            InputStream inputStream = getClass().getResourceAsStream(resourcePath);
-            if (inputStream == null) {
-                LOGGER.error("Could not find resource: " + resourcePath);
-                return translations;
-            }
-            
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
-                Gson gson = new Gson();
-                JsonObject json = gson.fromJson(reader, JsonObject.class);
-                json.entrySet().forEach(entry -> translations.put(entry.getKey(), entry.getValue().getAsString()));
-            }
-        } catch (IOException e) {
-            LOGGER.error("Failed to load translations from resource: " + resourcePath, e);
-        }
-        return translations;
-    }
-    
     public String getEnglishTranslation(String key) {
-        String translation = englishTranslations.get(key);
+        String translation = translations != null ? translations.getEnglish(key) : null;
         if (translation == null) {
             LOGGER.warn("Missing English translation for key: " + key);
             return key;
@@ -135,7 +114,7 @@ public class LanguageDisplayMod {
     }
     
     public String getSpanishTranslation(String key) {
-        String translation = spanishTranslations.get(key);
+        String translation = translations != null ? translations.getSpanish(key) : null;
         if (translation == null) {
             LOGGER.warn("Missing Spanish translation for key: " + key);
             return key;
@@ -153,8 +132,13 @@ public class LanguageDisplayMod {
     
     @SubscribeEvent
     public void onClientTick(TickEvent.ClientTickEvent event) {
-        if (event.phase == TickEvent.Phase.END && progressManager != null) {
-            progressManager.checkAndShowFlashcard();
+        if (event.phase == TickEvent.Phase.END) {
+            ClientTaskScheduler.getInstance().tick();
+            
+            // The key index is built in client setup, along with the progress manager
+            if (progressManager != null) {
+                AudioPrefetcher.getInstance().tick(Minecraft.getInstance());
+            }
         }
     }
     
@@ -184,16 +168,22 @@ public class LanguageDisplayMod {
             }
             
             // Show startup flashcard after a short delay (regardless of welcome message setting)
-            new Thread(() -> {
-                try {
-                    Thread.sleep(3000); // 3 second delay
-                    Minecraft.getInstance().execute(() -> {
-                        progressManager.showStartupFlashcard();
-                    });
-                } catch (InterruptedException e) {
-                    // Handle interruption
-                }
-            }).start();
+            Minecraft.getInstance().execute(() -> ClientTaskScheduler.getInstance().schedule(
+                "startup flashcard", STARTUP_FLASHCARD_DELAY_MILLIS, true, progressManager::showStartupFlashcard));
+        }
+    }
+    
+    @SubscribeEvent
+    public void onClientLogout(ClientPlayerNetworkEvent.LoggedOutEvent event) {
+        // Drop delayed work that only makes sense in the world being left
+        ClientTaskScheduler.getInstance().cancelLogoutTasks();
+    }
+    
+    @SubscribeEvent
+    public void onWorldUnload(WorldEvent.Unload event) {
+        // Take the snapshot here, on the client thread, and let the writer save it; the shutdown hook only writes out what is queued
+        if (event.getWorld().isClientSide() && progressManager != null) {
+            progressManager.compactProgress();
         }
     }
     
@@ -209,6 +199,11 @@ public class LanguageDisplayMod {
                 return;
             }
             
+            // Nothing to draw until client setup has joined the asset bootstrap
+            if (LanguageDisplayMod.getInstance().getProgressManager() == null) {
+                return;
+            }
+            
             MatrixStack matrixStack = event.getMatrixStack();
             FontRenderer fontRenderer = mc.font;
             
@@ -217,25 +212,22 @@ public class LanguageDisplayMod {
             int lineHeight = 12;
             int sectionSpacing = 16;
             
+            // Rebuild cached lines only when the player's surroundings changed
+            OverlayLabelCache labels = OverlayLabelCache.getInstance();
+            labels.refresh(mc);
+            
             // Current location with shadow
-            BlockPos playerPos = mc.player.blockPosition();
-            String posText = "Position: " + playerPos.getX() + ", " + playerPos.getY() + ", " + playerPos.getZ();
-            fontRenderer.drawShadow(matrixStack, posText, x, y, 0xFFFFFF);
+            fontRenderer.drawShadow(matrixStack, labels.getPositionText(), x, y, 0xFFFFFF);
             y += sectionSpacing;
             
             // Biome info - always show header
             fontRenderer.drawShadow(matrixStack, "Biome:", x, y, 0xFFD700);
             y += lineHeight;
             
-            Biome biome = mc.level.getBiome(playerPos);
-            ResourceLocation biomeRL = mc.level.registryAccess().registryOrThrow(Registry.BIOME_REGISTRY).getKey(biome);
-            if (biomeRL != null) {
-                String biomeKey = "biome." + biomeRL.toString().replace(':', '.');
-                String spanishBiome = LanguageDisplayMod.getInstance().getSpanishTranslation(biomeKey);
-                String englishBiome = LanguageDisplayMod.getInstance().getEnglishTranslation(biomeKey);
-                fontRenderer.drawShadow(matrixStack, "  " + spanishBiome, x, y, 0xFFFFFF);
+            if (labels.getBiomeSpanish() != null) {
+                fontRenderer.drawShadow(matrixStack, labels.getBiomeSpanish(), x, y, 0xFFFFFF);
                 y += lineHeight;
-                fontRenderer.drawShadow(matrixStack, "  " + englishBiome, x, y, 0xBBBBBB);
+                fontRenderer.drawShadow(matrixStack, labels.getBiomeEnglish(), x, y, 0xBBBBBB);
             }
             y += sectionSpacing;
             
@@ -243,54 +235,11 @@ public class LanguageDisplayMod {
             fontRenderer.drawShadow(matrixStack, "Looking At:", x, y, 0xFFD700);
             y += lineHeight;
             
-            // Check for block or entity
-            RayTraceResult rayTrace = mc.hitResult;
-            boolean foundTarget = false;
-            
-            if (rayTrace != null && rayTrace.getType() == RayTraceResult.Type.BLOCK) {
-                BlockRayTraceResult blockRayTrace = (BlockRayTraceResult) rayTrace;
-                BlockState blockState = mc.level.getBlockState(blockRayTrace.getBlockPos());
-                Block block = blockState.getBlock();
-                ResourceLocation blockRL = block.getRegistryName();
-                
-                if (blockRL != null) {
-                    String blockKey = "block." + blockRL.toString().replace(':', '.');
-                    String spanishBlock = LanguageDisplayMod.getInstance().getSpanishTranslation(blockKey);
-                    String englishBlock = LanguageDisplayMod.getInstance().getEnglishTranslation(blockKey);
-                    fontRenderer.drawShadow(matrixStack, "  " + spanishBlock, x, y, 0xFFFFFF);
-                    y += lineHeight;
-                    fontRenderer.drawShadow(matrixStack, "  " + englishBlock, x, y, 0xBBBBBB);
-                    foundTarget = true;
-                }
-            }
-            
-            // Check for entity if no block found
-            if (!foundTarget && rayTrace != null && rayTrace.getType() == RayTraceResult.Type.ENTITY) {
-                EntityRayTraceResult entityRayTrace = (EntityRayTraceResult) rayTrace;
-                Entity entity = entityRayTrace.getEntity();
-                ResourceLocation entityRL = entity.getType().getRegistryName();
-                
-                if (entityRL != null) {
-                    String entityKey = "entity." + entityRL.toString().replace(':', '.');
-                    String enTranslation = LanguageDisplayMod.getInstance().getEnglishTranslation(entityKey);
-                    String esTranslation = LanguageDisplayMod.getInstance().getSpanishTranslation(entityKey);
-                    
-                    // If translation is missing, show cleaner format
-                    if (enTranslation.equals(entityKey)) {
-                        String cleanName = entityRL.getPath();
-                        cleanName = cleanName.substring(0, 1).toUpperCase() + cleanName.substring(1).replace('_', ' ');
-                        enTranslation = cleanName;
-                    }
-                    
-                    fontRenderer.drawShadow(matrixStack, "  " + esTranslation, x, y, 0xFFFFFF);
-                    y += lineHeight;
-                    fontRenderer.drawShadow(matrixStack, "  " + enTranslation, x, y, 0xBBBBBB);
-                    foundTarget = true;
-                }
-            }
-            
-            // Always maintain consistent spacing for Looking At section
-            if (!foundTarget) {
+            if (labels.getTargetSpanish() != null) {
+                fontRenderer.drawShadow(matrixStack, labels.getTargetSpanish(), x, y, 0xFFFFFF);
+                y += lineHeight;
+                fontRenderer.drawShadow(matrixStack, labels.getTargetEnglish(), x, y, 0xBBBBBB);
+            } else {
                 // Match the Y advancement of content case: only lineHeight (like Spanish text)
                 y += lineHeight; // Match what Spanish text would do
             }
@@ -301,14 +250,10 @@ public class LanguageDisplayMod {
             fontRenderer.drawShadow(matrixStack, "Holding:", x, y, 0xFFD700);
             y += lineHeight;
             
-            ItemStack heldItem = mc.player.getMainHandItem();
-            if (!heldItem.isEmpty()) {
-                String translationKey = heldItem.getItem().getDescriptionId();
-                String spanishItem = LanguageDisplayMod.getInstance().getSpanishTranslation(translationKey);
-                String englishItem = LanguageDisplayMod.getInstance().getEnglishTranslation(translationKey);
-                fontRenderer.drawShadow(matrixStack, "  " + spanishItem, x, y, 0xFFFFFF);
+            if (labels.getHeldSpanish() != null) {
+                fontRenderer.drawShadow(matrixStack, labels.getHeldSpanish(), x, y, 0xFFFFFF);
                 y += lineHeight;
-                fontRenderer.drawShadow(matrixStack, "  " + englishItem, x, y, 0xBBBBBB);
+                fontRenderer.drawShadow(matrixStack, labels.getHeldEnglish(), x, y, 0xBBBBBB);
             } else {
                 // Always maintain consistent spacing for Holding section
                 y += lineHeight; // Spanish line space
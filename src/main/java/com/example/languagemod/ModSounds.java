@@ -1,7 +1,6 @@
 package com.example.languagemod;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import net.minecraft.util.ResourceLocation;
 import net.minecraft.util.SoundEvent;
 import net.minecraftforge.fml.RegistryObject;
@@ -14,53 +13,101 @@ import java.io.BufferedReader;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
+/**
+ * Knows which translation keys have a Spanish pronunciation and where to find it.
+ * <p>
+ * Pronunciations are only ever played on the client, and the client's sound handler resolves a sound by
+ * its location straight from sounds.json, so no registry entry is needed to play one. By default only an
+ * availability bitset over translation key ids is built at startup. Launching with
+ * {@code -Dlanguagemod.registerSoundEvents=true} also registers a {@link SoundEvent} per word, as older
+ * versions did, which adds one entry per word to the synced sound event registry.
+ */
 public class ModSounds {
     private static final Logger LOGGER = LogManager.getLogger();
     public static final DeferredRegister<SoundEvent> SOUNDS = DeferredRegister.create(ForgeRegistries.SOUND_EVENTS, "languagemod");
+    static final String SOUNDS_RESOURCE = "/assets/languagemod/sounds.json";
+    private static final boolean REGISTER_SOUND_EVENTS = Boolean.getBoolean("languagemod.registerSoundEvents");
     
-    // Map to store registered sound events
+    // Map to store registered sound events, only filled when registering sound events
     private static final Map<String, RegistryObject<SoundEvent>> registeredSounds = new HashMap<>();
+    // Translation key ids with a sound, and sound keys that have no translation
+    private static final BitSet availableSounds = new BitSet();
+    private static final Set<String> untranslatedSoundKeys = new HashSet<>();
+    private static int availableSoundCount;
     
-    // Register all sounds during class initialization
-    static {
-        registerAllSoundsFromJson();
-    }
+    private static boolean soundsRegistered = false;
     
     /**
-     * Load and register all sounds from sounds.json
+     * Read the translation keys of all Spanish sounds from sounds.json.
+     * Only the top-level sound names are needed, so the file is streamed and each definition skipped.
+     * Safe to call off the mod-loading thread.
      */
-    private static void registerAllSoundsFromJson() {
+    static List<String> readSoundKeysFromJson() {
+        long start = System.nanoTime();
+        List<String> translationKeys = new ArrayList<>();
         try {
             // Load sounds.json from resources
-            InputStream inputStream = ModSounds.class.getResourceAsStream("/assets/languagemod/sounds.json");
+            InputStream inputStream = ModSounds.class.getResourceAsStream(SOUNDS_RESOURCE);
             if (inputStream == null) {
                 LOGGER.error("Could not find sounds.json!");
-                return;
+                return translationKeys;
             }
             
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
-                Gson gson = new Gson();
-                JsonObject soundsJson = gson.fromJson(reader, JsonObject.class);
-                
-                // Register each sound
-                for (Map.Entry<String, com.google.gson.JsonElement> entry : soundsJson.entrySet()) {
-                    String soundKey = entry.getKey();
+            try (JsonReader reader = new JsonReader(new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)))) {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    String soundKey = reader.nextName();
+                    reader.skipValue();
                     // Convert sound key to translation key
                     // e.g., "es_mx.entity.minecraft.cat" -> "entity.minecraft.cat"
                     if (soundKey.startsWith("es_mx.")) {
-                        String translationKey = soundKey.substring(6); // Remove "es_mx." prefix
-                        registerSound(translationKey);
+                        translationKeys.add(soundKey.substring(6)); // Remove "es_mx." prefix
                     }
                 }
-                
-                LOGGER.info("Registered {} sound events from sounds.json", registeredSounds.size());
+                reader.endObject();
             }
         } catch (Exception e) {
-            LOGGER.error("Failed to register sounds from sounds.json", e);
+            LOGGER.error("Failed to read sounds from sounds.json", e);
+        }
+        LOGGER.info("Read {} sound names from sounds.json in {} ms",
+            translationKeys.size(), (System.nanoTime() - start) / 1_000_000);
+        return translationKeys;
+    }
+    
+    /**
+     * Index which translation keys have a sound, and register a sound event for each if enabled.
+     * Must run on the mod-loading thread before the sound event registry is populated.
+     */
+    public static void registerSounds(List<String> translationKeys) {
+        if (soundsRegistered) {
+            return;
+        }
+        soundsRegistered = true;
+        
+        long start = System.nanoTime();
+        TranslationStore translations = TranslationStore.getInstance();
+        for (String translationKey : translationKeys) {
+            int id = translations.indexOf(translationKey);
+            if (id >= 0) {
+                availableSounds.set(id);
+            } else {
+                untranslatedSoundKeys.add(translationKey);
+            }
+            if (REGISTER_SOUND_EVENTS) {
+                registerSound(translationKey);
+            }
         }
+        availableSoundCount = availableSounds.cardinality() + untranslatedSoundKeys.size();
+        LOGGER.info("Indexed {} sounds ({} without a translation) and registered {} sound events in {} ms",
+            availableSoundCount, untranslatedSoundKeys.size(), registeredSounds.size(), (System.nanoTime() - start) / 1_000_000);
     }
     
     /**
@@ -78,12 +125,10 @@ public class ModSounds {
             return registeredSounds.get(translationKey);
         }
         
-        // Convert translation key to sound name (e.g., "block.minecraft.stone" -> "es_mx.block.minecraft.stone")
-        String soundName = "es_mx." + translationKey;
-        ResourceLocation soundLocation = new ResourceLocation("languagemod", soundName);
+        ResourceLocation soundLocation = getSoundLocation(translationKey);
         
         // Register the sound event
-        RegistryObject<SoundEvent> soundEvent = SOUNDS.register(soundName, 
+        RegistryObject<SoundEvent> soundEvent = SOUNDS.register(soundLocation.getPath(), 
             () -> new SoundEvent(soundLocation));
         
         registeredSounds.put(translationKey, soundEvent);
@@ -92,20 +137,37 @@ public class ModSounds {
     }
     
     /**
-     * Get a registered sound event for a translation key
-     * @param translationKey The translation key
-     * @return The sound event or null if not registered
+     * @return Whether sounds.json has a pronunciation for the translation key
      */
-    public static SoundEvent getSoundEvent(String translationKey) {
-        RegistryObject<SoundEvent> registryObject = registeredSounds.get(translationKey);
-        return registryObject != null ? registryObject.get() : null;
+    public static boolean hasSound(String translationKey) {
+        int id = TranslationStore.getInstance().indexOf(translationKey);
+        return id >= 0 ? availableSounds.get(id) : untranslatedSoundKeys.contains(translationKey);
     }
     
     /**
-     * This method is kept for compatibility but doesn't do anything since sounds are pre-registered
+     * The sounds.json location of a translation key's pronunciation,
+     * e.g. "block.minecraft.stone" -> "languagemod:es_mx.block.minecraft.stone"
      */
-    public static void registerAllSounds(Map<String, String> translationKeys) {
-        LOGGER.info("All {} sounds were pre-registered during class initialization", registeredSounds.size());
+    public static ResourceLocation getSoundLocation(String translationKey) {
+        return new ResourceLocation("languagemod", "es_mx." + translationKey);
+    }
+    
+    /**
+     * This method is kept for compatibility but doesn't do anything since sounds are indexed during mod loading
+     */
+    public static void registerAllSounds(TranslationStore translations) {
+        LOGGER.info("{} sounds were indexed during mod loading", availableSoundCount);
+    }
+    
+    /**
+     * @return Whether a sound event is registered per word, i.e. whether {@link #SOUNDS} needs the mod event bus
+     */
+    public static boolean isRegisteringSoundEvents() {
+        return REGISTER_SOUND_EVENTS;
+    }
+    
+    public static int getAvailableSoundCount() {
+        return availableSoundCount;
     }
     
     public static int getRegisteredSoundCount() {
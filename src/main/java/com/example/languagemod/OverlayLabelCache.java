@@ -0,0 +1,284 @@
+package com.example.languagemod;
+
+import net.minecraft.block.Block;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.world.ClientWorld;
+import net.minecraft.entity.EntityType;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.BlockRayTraceResult;
+import net.minecraft.util.math.EntityRayTraceResult;
+import net.minecraft.util.math.RayTraceResult;
+import net.minecraft.util.registry.Registry;
+import net.minecraft.world.biome.Biome;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Caches the lines drawn by the HUD overlay.
+ * Lines are only rebuilt when the biome, block, entity type or held item under the player changes,
+ * so steady-state frames just draw the precomputed strings.
+ * <p>
+ * Allocation per frame is only measured while turned on with /overlaystats alloc, since reading the thread's
+ * allocation counter allocates by itself; that cost is measured once and subtracted from each frame.
+ */
+public class OverlayLabelCache {
+    private static final String INDENT = "  ";
+    private static OverlayLabelCache instance;
+    
+    private ClientWorld level;
+    private boolean valid = false;
+    
+    private int posX;
+    private int posY;
+    private int posZ;
+    private Biome biome;
+    private Block block;
+    private EntityType<?> entityType;
+    private Item heldItem;
+    
+    private String positionText;
+    private String biomeSpanish;
+    private String biomeEnglish;
+    private String targetSpanish;
+    private String targetEnglish;
+    private String heldSpanish;
+    private String heldEnglish;
+    
+    // Frame statistics (shown by /overlaystats)
+    private final com.sun.management.ThreadMXBean allocationBean;
+    private boolean trackAllocation = false;
+    // Bytes allocated by one read of the allocation counter, measured when tracking is turned on
+    private long probeBytes = -1;
+    private long frameCount = 0;
+    private long rebuildCount = 0;
+    private long trackedFrameCount = 0;
+    private long allocatedBytes = 0;
+    
+    private OverlayLabelCache() {
+        ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            allocationBean = (com.sun.management.ThreadMXBean) bean;
+        } else {
+            allocationBean = null;
+        }
+    }
+    
+    public static OverlayLabelCache getInstance() {
+        if (instance == null) {
+            instance = new OverlayLabelCache();
+        }
+        return instance;
+    }
+    
+    /**
+     * Bring the cached lines up to date with the player's current surroundings.
+     * Only sections whose target changed since the last frame are rebuilt.
+     */
+    public void refresh(Minecraft mc) {
+        boolean track = trackAllocation;
+        long threadId = track ? Thread.currentThread().getId() : 0;
+        long before = track ? allocationBean.getThreadAllocatedBytes(threadId) : 0;
+        frameCount++;
+        
+        if (mc.level != level) {
+            level = mc.level;
+            valid = false;
+        }
+        
+        BlockPos playerPos = mc.player.blockPosition();
+        if (!valid || playerPos.getX() != posX || playerPos.getY() != posY || playerPos.getZ() != posZ) {
+            posX = playerPos.getX();
+            posY = playerPos.getY();
+            posZ = playerPos.getZ();
+            positionText = "Position: " + posX + ", " + posY + ", " + posZ;
+        }
+        
+        Biome currentBiome = mc.level.getBiome(playerPos);
+        if (!valid || currentBiome != biome) {
+            biome = currentBiome;
+            rebuildBiome(mc);
+        }
+        
+        Block currentBlock = null;
+        EntityType<?> currentEntityType = null;
+        RayTraceResult rayTrace = mc.hitResult;
+        if (rayTrace != null && rayTrace.getType() == RayTraceResult.Type.BLOCK) {
+            currentBlock = mc.level.getBlockState(((BlockRayTraceResult) rayTrace).getBlockPos()).getBlock();
+        } else if (rayTrace != null && rayTrace.getType() == RayTraceResult.Type.ENTITY) {
+            currentEntityType = ((EntityRayTraceResult) rayTrace).getEntity().getType();
+        }
+        if (!valid || currentBlock != block || currentEntityType != entityType) {
+            block = currentBlock;
+            entityType = currentEntityType;
+            rebuildTarget();
+        }
+        
+        ItemStack heldStack = mc.player.getMainHandItem();
+        Item currentItem = heldStack.isEmpty() ? null : heldStack.getItem();
+        if (!valid || currentItem != heldItem) {
+            heldItem = currentItem;
+            rebuildHeldItem();
+        }
+        
+        valid = true;
+        
+        if (track) {
+            allocatedBytes += Math.max(0, allocationBean.getThreadAllocatedBytes(threadId) - before - probeBytes);
+            trackedFrameCount++;
+        }
+    }
+    
+    /**
+     * Force every section to be rebuilt on the next frame (e.g. after translations change)
+     */
+    public void invalidate() {
+        valid = false;
+    }
+    
+    private void rebuildBiome(Minecraft mc) {
+        rebuildCount++;
+        ResourceLocation biomeRL = mc.level.registryAccess().registryOrThrow(Registry.BIOME_REGISTRY).getKey(biome);
+        if (biomeRL != null) {
+            TranslationKeyIndex.Entry entry = TranslationKeyIndex.getInstance().forBiome(biomeRL);
+            biomeSpanish = INDENT + entry.spanish;
+            biomeEnglish = INDENT + entry.english;
+        } else {
+            biomeSpanish = null;
+            biomeEnglish = null;
+        }
+    }
+    
+    private void rebuildTarget() {
+        rebuildCount++;
+        targetSpanish = null;
+        targetEnglish = null;
+        
+        if (block != null) {
+            TranslationKeyIndex.Entry entry = TranslationKeyIndex.getInstance().forBlock(block);
+            if (entry != null) {
+                targetSpanish = INDENT + entry.spanish;
+                targetEnglish = INDENT + entry.english;
+            }
+        } else if (entityType != null) {
+            TranslationKeyIndex.Entry entry = TranslationKeyIndex.getInstance().forEntityType(entityType);
+            if (entry != null) {
+                String enTranslation = entry.english;
+                
+                // If translation is missing, show cleaner format
+                if (!entry.hasEnglishTranslation()) {
+                    String cleanName = entityType.getRegistryName().getPath();
+                    cleanName = cleanName.substring(0, 1).toUpperCase() + cleanName.substring(1).replace('_', ' ');
+                    enTranslation = cleanName;
+                }
+                
+                targetSpanish = INDENT + entry.spanish;
+                targetEnglish = INDENT + enTranslation;
+            }
+        }
+    }
+    
+    private void rebuildHeldItem() {
+        rebuildCount++;
+        if (heldItem != null) {
+            TranslationKeyIndex.Entry entry = TranslationKeyIndex.getInstance().forItem(heldItem);
+            heldSpanish = INDENT + entry.spanish;
+            heldEnglish = INDENT + entry.english;
+        } else {
+            heldSpanish = null;
+            heldEnglish = null;
+        }
+    }
+    
+    public String getPositionText() {
+        return positionText;
+    }
+    
+    public String getBiomeSpanish() {
+        return biomeSpanish;
+    }
+    
+    public String getBiomeEnglish() {
+        return biomeEnglish;
+    }
+    
+    public String getTargetSpanish() {
+        return targetSpanish;
+    }
+    
+    public String getTargetEnglish() {
+        return targetEnglish;
+    }
+    
+    public String getHeldSpanish() {
+        return heldSpanish;
+    }
+    
+    public String getHeldEnglish() {
+        return heldEnglish;
+    }
+    
+    public long getFrameCount() {
+        return frameCount;
+    }
+    
+    public long getRebuildCount() {
+        return rebuildCount;
+    }
+    
+    public boolean isAllocationTrackingSupported() {
+        return allocationBean != null;
+    }
+    
+    public boolean isAllocationTracking() {
+        return trackAllocation;
+    }
+    
+    /**
+     * Turn per-frame allocation measurement on or off; must run on the render thread
+     */
+    public void setAllocationTracking(boolean enabled) {
+        if (enabled && allocationBean == null) {
+            return;
+        }
+        if (enabled && probeBytes < 0) {
+            long threadId = Thread.currentThread().getId();
+            // The counter read between two others is one full read; keep the cheapest of a few samples
+            long cheapest = Long.MAX_VALUE;
+            for (int i = 0; i < 8; i++) {
+                long first = allocationBean.getThreadAllocatedBytes(threadId);
+                long second = allocationBean.getThreadAllocatedBytes(threadId);
+                cheapest = Math.min(cheapest, second - first);
+            }
+            probeBytes = Math.max(0, cheapest);
+        }
+        trackAllocation = enabled;
+        trackedFrameCount = 0;
+        allocatedBytes = 0;
+    }
+    
+    /**
+     * Average bytes allocated by {@link #refresh} per tracked frame, including rebuild frames
+     */
+    public long getAverageBytesPerFrame() {
+        return trackedFrameCount == 0 ? 0 : allocatedBytes / trackedFrameCount;
+    }
+    
+    /**
+     * @return Bytes allocated by one read of the allocation counter, subtracted from every tracked frame
+     */
+    public long getProbeBytes() {
+        return Math.max(0, probeBytes);
+    }
+    
+    public void resetStats() {
+        frameCount = 0;
+        rebuildCount = 0;
+        trackedFrameCount = 0;
+        allocatedBytes = 0;
+    }
+}
\ No newline at end of file
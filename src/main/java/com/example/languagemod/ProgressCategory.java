@@ -0,0 +1,35 @@
+package com.example.languagemod;
+
+/**
+ * Kind of thing a translation key names, taken from the key's prefix
+ */
+public enum ProgressCategory {
+    BLOCK("block.", "Blocks"),
+    ITEM("item.", "Items"),
+    ENTITY("entity.", "Entities"),
+    BIOME("biome.", "Biomes"),
+    OTHER(null, "Other");
+    
+    private static final ProgressCategory[] VALUES = values();
+    
+    private final String prefix;
+    private final String displayName;
+    
+    ProgressCategory(String prefix, String displayName) {
+        this.prefix = prefix;
+        this.displayName = displayName;
+    }
+    
+    public String getDisplayName() {
+        return displayName;
+    }
+    
+    public static ProgressCategory of(String key) {
+        for (ProgressCategory category : VALUES) {
+            if (category.prefix != null && key.startsWith(category.prefix)) {
+                return category;
+            }
+        }
+        return OTHER;
+    }
+}
\ No newline at end of file
@@ -1,7 +1,5 @@
 package com.example.languagemod;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonElement;
@@ -12,9 +10,6 @@ import org.apache.logging.log4j.Logger;
 
 import java.io.File;
 import java.io.FileReader;
-import java.io.FileWriter;
-import java.io.IOException;
-import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
@@ -25,112 +20,195 @@ import java.util.*;
 public class ProgressManager {
     private static final Logger LOGGER = LogManager.getLogger();
     private static final String PROGRESS_FILE_NAME = "languagemod_progress.json";
-    private static final String EN_US_RESOURCE = "/assets/languagemod/lang/en_us.json";
-    private static final String ES_MX_RESOURCE = "/assets/languagemod/lang/es_mx.json";
+    private static final String JOURNAL_FILE_NAME = "languagemod_progress.journal";
+    // Roughly 1500 records before the journal is folded back into the progress file
+    private static final long JOURNAL_COMPACT_BYTES = 64 * 1024;
+    // A card counts as mastered once its reviews are spaced at least three weeks apart
+    private static final long MASTERY_INTERVAL = 21 * ReviewScheduler.DAY_MILLIS;
+    // Format 1 stored every translation key; format 2 stores only entries that have been touched
+    private static final int PROGRESS_FORMAT_VERSION = 2;
+    // Journal lines are "<sequence> <type> <time> <key>", or "<sequence> P <time> <name> <value>" for preferences
+    private static final String RECORD_DISCOVERED = "D";
+    private static final String RECORD_CORRECT = "C";
+    private static final String RECORD_WRONG = "W";
+    private static final String RECORD_PREFERENCE = "P";
+    private static final String PREF_WELCOME_MESSAGE = "welcomeMessageEnabled";
+    private static final String PREF_FLASHCARD_INTERVAL = "flashcardInterval";
+    private static final String PREF_AUDIO_MODE = "audioPlaybackMode";
     
-    private final Map<String, ProgressEntry> progressMap = new HashMap<>();
-    private final Map<String, String> englishTranslations = new HashMap<>();
-    private final Map<String, String> spanishTranslations = new HashMap<>();
-    private long lastFlashcardTime = 0;
+    private final TranslationStore translations;
+    // Indexed by translation key id
+    private final ProgressStore store;
+    private final ReviewScheduler scheduler;
+    // Saved entries whose key is no longer in the language files, kept so they survive a round trip
+    private final Map<String, JsonObject> orphanedEntries = new HashMap<>();
+    private final ProgressPersister persister;
+    private final ClientTaskScheduler tasks;
+    private ClientTaskScheduler.ScheduledTask reviewTask;
+    // Client tick until which discoveries don't show a flashcard
+    private long discoveryCooldownUntil;
     private long flashcardInterval = 5 * 60 * 1000; // 5 minutes in milliseconds (configurable)
     private boolean welcomeMessageEnabled = true;
-    private long lastCorrectFlashcardTime = 0;
-    private long lastFlashcardAnswerTime = 0; // Tracks any flashcard answer (correct or incorrect)
+    private long journalSequence = 0; // Sequence number of the last journal record applied or written
+    private final Random random = new Random();
     
+    /**
+     * Read-only view of one key's progress in the backing {@link ProgressStore}.
+     * <p>
+     * This replaces the public {@code discovered}, {@code discoveredTime}, {@code correctCount},
+     * {@code attemptCount}, {@code lastAttemptTime} and {@code mastered} fields and the public constructor of
+     * earlier versions. Writing those fields used to change the saved progress, which a view over the store's
+     * arrays cannot support, so code that read a field now calls the matching getter.
+     */
     public static class ProgressEntry {
-        public boolean discovered;
-        public long discoveredTime;
-        public int correctCount;
-        public int attemptCount;
-        public long lastAttemptTime;
-        public boolean mastered;
+        private final ProgressStore store;
+        private final int id;
         
-        public ProgressEntry() {
-            this.discovered = false;
-            this.discoveredTime = 0;
-            this.correctCount = 0;
-            this.attemptCount = 0;
-            this.lastAttemptTime = 0;
-            this.mastered = false;
+        private ProgressEntry(ProgressStore store, int id) {
+            this.store = store;
+            this.id = id;
+        }
+        
+        public boolean isDiscovered() {
+            return store.isDiscovered(id);
+        }
+        
+        public long getDiscoveredTime() {
+            return store.getDiscoveredTime(id);
+        }
+        
+        public int getCorrectCount() {
+            return store.getCorrectCount(id);
+        }
+        
+        public int getAttemptCount() {
+            return store.getAttemptCount(id);
+        }
+        
+        public long getLastAttemptTime() {
+            return store.getLastAttemptTime(id);
+        }
+        
+        public boolean isMastered() {
+            return store.isMastered(id);
+        }
+        
+        /**
+         * @return Whether this entry differs from a default one and needs to be saved
+         */
+        public boolean isTouched() {
+            return isDiscovered() || getAttemptCount() > 0 || isMastered();
         }
     }
     
     public ProgressManager() {
-        loadTranslations();
-        loadProgress();
-        lastFlashcardTime = System.currentTimeMillis();
-    }
-    
-    private void loadTranslations() {
-        try {
-            // Load English translations from resources
-            loadTranslationsFromResource(EN_US_RESOURCE, englishTranslations);
-            
-            // Load Spanish translations from resources
-            loadTranslationsFromResource(ES_MX_RESOURCE, spanishTranslations);
-            
-            LOGGER.info("Loaded {} English and {} Spanish translations", 
-                       englishTranslations.size(), spanishTranslations.size());
-            
-            // Initialize progress entries for all translation keys
-            Set<String> allKeys = new HashSet<>();
-            allKeys.addAll(englishTranslations.keySet());
-            allKeys.addAll(spanishTranslations.keySet());
-            
-            for (String key : allKeys) {
-                progressMap.putIfAbsent(key, new ProgressEntry());
-            }
-            
-        } catch (Exception e) {
-            LOGGER.error("Failed to load translation files", e);
+        translations = TranslationStore.getInstance();
+        ProgressCategory[] categories = new ProgressCategory[translations.size()];
+        for (int id = 0; id < categories.length; id++) {
+            categories[id] = ProgressCategory.of(translations.getKey(id));
         }
+        store = new ProgressStore(categories);
+        scheduler = new ReviewScheduler(categories.length);
+        persister = new ProgressPersister(getProgressFile().toPath(), getJournalFile(), this::createSnapshot,
+            JOURNAL_COMPACT_BYTES);
+        tasks = ClientTaskScheduler.getInstance();
+        loadProgress();
+        // The caller starts the review timer on the client thread with resetFlashcardTimer()
     }
     
-    private void loadTranslationsFromResource(String resourcePath, Map<String, String> targetMap) {
-        try {
-            InputStream inputStream = getClass().getResourceAsStream(resourcePath);
-            if (inputStream == null) {
-                LOGGER.error("Could not find resource: " + resourcePath);
-                return;
-            }
-            
-            try (InputStreamReader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
-                JsonObject jsonObject = new JsonParser().parse(reader).getAsJsonObject();
-                for (Map.Entry<String, JsonElement> entry : jsonObject.entrySet()) {
-                    targetMap.put(entry.getKey(), entry.getValue().getAsString());
-                }
-            }
-        } catch (Exception e) {
-            LOGGER.error("Failed to load translations from resource: " + resourcePath, e);
-        }
+    /**
+     * @return A view of a key's progress, or null if the key is not a translation key
+     */
+    public ProgressEntry getEntry(String key) {
+        int id = translations.indexOf(key);
+        return id >= 0 ? new ProgressEntry(store, id) : null;
     }
     
-    private void loadProgress() {
+    /**
+     * Parse the saved progress file without applying it.
+     * Safe to call off the mod-loading thread.
+     * @return The parsed file, or null if it is missing or unreadable
+     */
+    static JsonObject readProgressFile() {
+        long start = System.nanoTime();
         File file = getProgressFile();
         if (!file.exists()) {
-            saveProgress();
-            return;
+            return null;
         }
         
         try (InputStreamReader reader = new InputStreamReader(
                 new java.io.FileInputStream(file), StandardCharsets.UTF_8)) {
             JsonObject jsonObject = new JsonParser().parse(reader).getAsJsonObject();
+            LOGGER.info("Read progress file in {} ms", (System.nanoTime() - start) / 1_000_000);
+            return jsonObject;
+        } catch (Exception e) {
+            LOGGER.error("Failed to load progress file", e);
+            return null;
+        }
+    }
+    
+    private void loadProgress() {
+        boolean migrate = false;
+        if (getProgressFile().exists()) {
+            JsonObject jsonObject = AssetBootstrap.awaitProgress();
+            if (jsonObject != null) {
+                migrate = loadSnapshot(jsonObject);
+            }
+        }
+        int replayed = replayJournal();
+        LOGGER.info("Loaded progress for {} items ({} journal records replayed, ~{} KB retained)",
+            store.getTouchedCount(), replayed, store.estimateRetainedBytes() / 1024);
+        
+        // Also writes the first snapshot on a fresh install
+        if (migrate || persister.needsCompaction() || !getProgressFile().exists()) {
+            persister.compact();
+        }
+    }
+    
+    /**
+     * Apply a parsed progress snapshot
+     * @return Whether the snapshot uses an older format and should be rewritten
+     */
+    private boolean loadSnapshot(JsonObject jsonObject) {
+        try {
+            int version = jsonObject.has("version") ? jsonObject.get("version").getAsInt() : 1;
+            int storedEntries = 0;
+            journalSequence = jsonObject.has("journalSequence") ? jsonObject.get("journalSequence").getAsLong() : 0;
             
             if (jsonObject.has("progress")) {
                 JsonObject progress = jsonObject.getAsJsonObject("progress");
                 for (Map.Entry<String, JsonElement> entry : progress.entrySet()) {
                     String key = entry.getKey();
                     JsonObject data = entry.getValue().getAsJsonObject();
+                    storedEntries++;
                     
-                    ProgressEntry progressEntry = progressMap.getOrDefault(key, new ProgressEntry());
-                    progressEntry.discovered = data.get("discovered").getAsBoolean();
-                    progressEntry.discoveredTime = data.get("discoveredTime").getAsLong();
-                    progressEntry.correctCount = data.has("correctCount") ? data.get("correctCount").getAsInt() : 0;
-                    progressEntry.attemptCount = data.has("attemptCount") ? data.get("attemptCount").getAsInt() : 0;
-                    progressEntry.lastAttemptTime = data.has("lastAttemptTime") ? data.get("lastAttemptTime").getAsLong() : 0;
-                    progressEntry.mastered = data.has("mastered") ? data.get("mastered").getAsBoolean() : false;
+                    // Fields left at their default value are omitted from format 2 files
+                    boolean discovered = data.has("discovered") && data.get("discovered").getAsBoolean();
+                    long discoveredTime = data.has("discoveredTime") ? data.get("discoveredTime").getAsLong() : 0;
+                    int correctCount = data.has("correctCount") ? data.get("correctCount").getAsInt() : 0;
+                    int attemptCount = data.has("attemptCount") ? data.get("attemptCount").getAsInt() : 0;
+                    long lastAttemptTime = data.has("lastAttemptTime") ? data.get("lastAttemptTime").getAsLong() : 0;
+                    boolean mastered = data.has("mastered") && data.get("mastered").getAsBoolean();
+                    if (!discovered && attemptCount == 0 && !mastered) {
+                        continue;
+                    }
                     
-                    progressMap.put(key, progressEntry);
+                    int id = translations.indexOf(key);
+                    if (id >= 0) {
+                        store.set(id, discovered, discoveredTime, correctCount, attemptCount, lastAttemptTime, mastered);
+                        if (data.has("due")) {
+                            scheduler.restore(id,
+                                data.has("ease") ? data.get("ease").getAsFloat() : ReviewScheduler.DEFAULT_EASE,
+                                data.has("interval") ? data.get("interval").getAsLong() : 0,
+                                data.has("repetitions") ? data.get("repetitions").getAsInt() : 0,
+                                data.get("due").getAsLong());
+                        } else if (discovered || attemptCount > 0) {
+                            // Saved before scheduling existed; review it again from the start
+                            scheduler.add(id, Math.max(discoveredTime, lastAttemptTime));
+                        }
+                    } else {
+                        orphanedEntries.put(key, data);
+                    }
                 }
             }
             
@@ -143,72 +221,197 @@ public class ProgressManager {
                 if (prefs.has("flashcardInterval")) {
                     flashcardInterval = prefs.get("flashcardInterval").getAsLong();
                 }
-                if (prefs.has("lastFlashcardAnswerTime")) {
-                    lastFlashcardAnswerTime = prefs.get("lastFlashcardAnswerTime").getAsLong();
+                if (prefs.has(PREF_AUDIO_MODE)) {
+                    applyAudioMode(prefs.get(PREF_AUDIO_MODE).getAsString());
                 }
             }
             
-            LOGGER.info("Loaded progress for {} items", progressMap.size());
+            if (version < PROGRESS_FORMAT_VERSION) {
+                LOGGER.info("Migrating progress file from format {} to {} ({} stored entries, {} touched)",
+                    version, PROGRESS_FORMAT_VERSION, storedEntries, store.getTouchedCount() + orphanedEntries.size());
+                return true;
+            }
         } catch (Exception e) {
             LOGGER.error("Failed to load progress file", e);
         }
+        return false;
     }
     
-    public void saveProgress() {
-        try {
-            JsonObject root = new JsonObject();
-            JsonObject progress = new JsonObject();
-            
-            for (Map.Entry<String, ProgressEntry> entry : progressMap.entrySet()) {
-                JsonObject data = new JsonObject();
-                data.addProperty("discovered", entry.getValue().discovered);
-                data.addProperty("discoveredTime", entry.getValue().discoveredTime);
-                data.addProperty("correctCount", entry.getValue().correctCount);
-                data.addProperty("attemptCount", entry.getValue().attemptCount);
-                data.addProperty("lastAttemptTime", entry.getValue().lastAttemptTime);
-                data.addProperty("mastered", entry.getValue().mastered);
-                progress.add(entry.getKey(), data);
+    /**
+     * Apply journal records written after the snapshot
+     * @return The number of records applied
+     */
+    private int replayJournal() {
+        long snapshotSequence = journalSequence;
+        int replayed = 0;
+        for (String record : ProgressPersister.readJournal(getJournalFile())) {
+            try {
+                String[] parts = record.split(" ");
+                long sequence = Long.parseLong(parts[0]);
+                if (sequence <= snapshotSequence) {
+                    // Already folded into the snapshot before the journal could be removed
+                    continue;
+                }
+                long time = Long.parseLong(parts[2]);
+                applyRecord(parts[1], time, parts[3], parts.length > 4 ? parts[4] : null);
+                journalSequence = Math.max(journalSequence, sequence);
+                replayed++;
+            } catch (RuntimeException e) {
+                // A crash mid-append can leave a truncated last line
+                LOGGER.warn("Skipping malformed progress journal record: {}", record);
             }
-            
-            root.add("progress", progress);
-            
-            // Save preferences
-            JsonObject prefs = new JsonObject();
-            prefs.addProperty("welcomeMessageEnabled", welcomeMessageEnabled);
-            prefs.addProperty("flashcardInterval", flashcardInterval);
-            prefs.addProperty("lastFlashcardAnswerTime", lastFlashcardAnswerTime);
-            root.add("preferences", prefs);
-            
-            // Create directory if it doesn't exist
-            File file = getProgressFile();
-            file.getParentFile().mkdirs();
-            
-            try (FileWriter writer = new FileWriter(file)) {
-                Gson gson = new GsonBuilder().setPrettyPrinting().create();
-                gson.toJson(root, writer);
+        }
+        return replayed;
+    }
+    
+    private void applyRecord(String type, long time, String argument, String value) {
+        switch (type) {
+            case RECORD_DISCOVERED: {
+                int id = translations.indexOf(argument);
+                if (id >= 0 && !store.isDiscovered(id)) {
+                    applyDiscovered(id, time);
+                }
+                break;
             }
-            
-        } catch (IOException e) {
-            LOGGER.error("Failed to save progress", e);
+            case RECORD_CORRECT:
+            case RECORD_WRONG: {
+                int id = translations.indexOf(argument);
+                if (id >= 0) {
+                    applyAttempt(id, type.equals(RECORD_CORRECT), time);
+                }
+                break;
+            }
+            case RECORD_PREFERENCE:
+                applyPreference(argument, value);
+                break;
+            default:
+                LOGGER.warn("Unknown progress journal record type: {}", type);
+        }
+    }
+    
+    private void applyDiscovered(int id, long time) {
+        store.markDiscovered(id, time);
+        scheduler.add(id, time);
+    }
+    
+    /**
+     * @return Whether this attempt mastered the key
+     */
+    private boolean applyAttempt(int id, boolean correct, long time) {
+        store.recordAttempt(id, correct, time);
+        long interval = scheduler.review(id, correct, time);
+        
+        if (correct && interval >= MASTERY_INTERVAL && !store.isMastered(id)) {
+            store.markMastered(id);
+            return true;
+        }
+        return false;
+    }
+    
+    private void applyPreference(String name, String value) {
+        switch (name) {
+            case PREF_WELCOME_MESSAGE:
+                welcomeMessageEnabled = Boolean.parseBoolean(value);
+                break;
+            case PREF_FLASHCARD_INTERVAL:
+                flashcardInterval = Long.parseLong(value);
+                break;
+            case PREF_AUDIO_MODE:
+                applyAudioMode(value);
+                break;
+            default:
+                LOGGER.warn("Unknown preference in progress journal: {}", name);
         }
     }
     
-    private File getProgressFile() {
+    private void applyAudioMode(String name) {
+        AudioManager.PlaybackMode mode = AudioManager.PlaybackMode.byName(name);
+        if (mode != null) {
+            AudioManager.getInstance().setPlaybackMode(mode);
+        } else {
+            LOGGER.warn("Unknown audio playback mode in saved preferences: {}", name);
+        }
+    }
+    
+    private void appendRecord(String type, long time, String payload) {
+        persister.append(++journalSequence + " " + type + " " + time + " " + payload);
+    }
+    
+    /**
+     * Fold the journal into the progress file in the background; client thread only
+     */
+    public void compactProgress() {
+        persister.compactIfChanged();
+    }
+    
+    /**
+     * Write out already queued progress and stop the background writer; safe from a shutdown hook
+     */
+    public void shutdown() {
+        persister.shutdown();
+    }
+    
+    private JsonObject createSnapshot() {
+        JsonObject root = new JsonObject();
+        root.addProperty("version", PROGRESS_FORMAT_VERSION);
+        root.addProperty("journalSequence", journalSequence);
+        JsonObject progress = new JsonObject();
+        
+        // Only touched entries are written, and only their non-default fields
+        for (int id = store.nextTouched(0); id >= 0; id = store.nextTouched(id + 1)) {
+            JsonObject data = new JsonObject();
+            if (store.isDiscovered(id)) {
+                data.addProperty("discovered", true);
+                data.addProperty("discoveredTime", store.getDiscoveredTime(id));
+            }
+            if (store.getAttemptCount(id) > 0) {
+                data.addProperty("correctCount", store.getCorrectCount(id));
+                data.addProperty("attemptCount", store.getAttemptCount(id));
+                data.addProperty("lastAttemptTime", store.getLastAttemptTime(id));
+                data.addProperty("ease", scheduler.getEase(id));
+                data.addProperty("interval", scheduler.getInterval(id));
+                data.addProperty("repetitions", scheduler.getRepetitions(id));
+                data.addProperty("due", scheduler.getDue(id));
+            }
+            if (store.isMastered(id)) {
+                data.addProperty("mastered", true);
+            }
+            progress.add(translations.getKey(id), data);
+        }
+        for (Map.Entry<String, JsonObject> entry : orphanedEntries.entrySet()) {
+            progress.add(entry.getKey(), entry.getValue());
+        }
+        
+        root.add("progress", progress);
+        
+        // Save preferences
+        JsonObject prefs = new JsonObject();
+        prefs.addProperty(PREF_WELCOME_MESSAGE, welcomeMessageEnabled);
+        prefs.addProperty(PREF_FLASHCARD_INTERVAL, flashcardInterval);
+        prefs.addProperty(PREF_AUDIO_MODE, AudioManager.getInstance().getPlaybackMode().name());
+        root.add("preferences", prefs);
+        return root;
+    }
+    
+    private static File getProgressFile() {
         Path configDir = FMLPaths.CONFIGDIR.get();
         return configDir.resolve(PROGRESS_FILE_NAME).toFile();
     }
     
+    private static Path getJournalFile() {
+        return FMLPaths.CONFIGDIR.get().resolve(JOURNAL_FILE_NAME);
+    }
+    
     public void markItemDiscovered(String key) {
-        ProgressEntry entry = progressMap.get(key);
-        if (entry != null && !entry.discovered) {
-            entry.discovered = true;
-            entry.discoveredTime = System.currentTimeMillis();
-            saveProgress();
+        int id = translations.indexOf(key);
+        if (id >= 0 && !store.isDiscovered(id)) {
+            long currentTime = System.currentTimeMillis();
+            applyDiscovered(id, currentTime);
+            appendRecord(RECORD_DISCOVERED, currentTime, key);
             LOGGER.info("Marked {} as discovered", key);
             
             // Show flashcard for newly discovered items if no flashcard answered since startup or 5 minutes have passed
-            long currentTime = System.currentTimeMillis();
-            if (lastFlashcardAnswerTime == 0 || currentTime - lastFlashcardAnswerTime >= flashcardInterval) {
+            if (tasks.getCurrentTick() >= discoveryCooldownUntil) {
                 showInitialFlashcard(key);
                 resetFlashcardTimer();
             }
@@ -225,41 +428,42 @@ public class ProgressManager {
     }
     
     private void showInitialFlashcard(String key) {
-        String english = englishTranslations.get(key);
-        String spanish = spanishTranslations.get(key);
+        String english = translations.getEnglish(key);
+        String spanish = translations.getSpanish(key);
         
         if (english != null && spanish != null) {
             FlashcardManager.getInstance().showFlashcard(key, english, spanish, true);
         }
     }
     
-    public void checkAndShowFlashcard() {
-        long currentTime = System.currentTimeMillis();
-        if (currentTime - lastFlashcardTime >= flashcardInterval) {
-            lastFlashcardTime = currentTime;
-            showRandomFlashcard();
+    private void onReviewTimer() {
+        showDueFlashcard(System.currentTimeMillis());
+        resetFlashcardTimer();
+    }
+    
+    /**
+     * Show the card that came due most recently, if any card is due
+     */
+    public void showDueFlashcard(long currentTime) {
+        int id = scheduler.peekDue(currentTime);
+        if (id >= 0) {
+            showFlashcard(id);
         }
     }
     
     public void showRandomFlashcard() {
-        // Get all discovered but not mastered items
-        List<String> eligibleKeys = new ArrayList<>();
-        for (Map.Entry<String, ProgressEntry> entry : progressMap.entrySet()) {
-            if (entry.getValue().discovered && !entry.getValue().mastered) {
-                eligibleKeys.add(entry.getKey());
-            }
-        }
-        
-        if (eligibleKeys.isEmpty()) {
-            return;
+        // Pick a random discovered but not mastered item
+        int id = store.pickEligible(random);
+        if (id >= 0) {
+            showFlashcard(id);
         }
+    }
+    
+    private void showFlashcard(int id) {
+        String key = translations.getKey(id);
         
-        // Pick a random key
-        Random random = new Random();
-        String key = eligibleKeys.get(random.nextInt(eligibleKeys.size()));
-        
-        String english = englishTranslations.get(key);
-        String spanish = spanishTranslations.get(key);
+        String english = translations.getEnglish(id);
+        String spanish = translations.getSpanish(id);
         
         if (english != null && spanish != null) {
             // Randomly decide whether to ask English->Spanish or Spanish->English
@@ -269,68 +473,62 @@ public class ProgressManager {
     }
     
     public void recordFlashcardAttempt(String key, boolean correct) {
-        ProgressEntry entry = progressMap.get(key);
-        if (entry != null) {
-            entry.attemptCount++;
-            entry.lastAttemptTime = System.currentTimeMillis();
-            
-            // Track that any flashcard was answered
-            lastFlashcardAnswerTime = System.currentTimeMillis();
+        int id = translations.indexOf(key);
+        if (id >= 0) {
+            // Also tracks that any flashcard was answered
+            long currentTime = System.currentTimeMillis();
+            boolean newlyMastered = applyAttempt(id, correct, currentTime);
+            appendRecord(correct ? RECORD_CORRECT : RECORD_WRONG, currentTime, key);
             
-            if (correct) {
-                entry.correctCount++;
-                lastCorrectFlashcardTime = System.currentTimeMillis();
+            if (newlyMastered) {
+                LOGGER.info("Item {} has been mastered!", key);
                 
-                if (entry.correctCount >= 5 && !entry.mastered) {
-                    entry.mastered = true;
-                    LOGGER.info("Item {} has been mastered!", key);
-                    
-                    // Show mastery message
-                    Minecraft mc = Minecraft.getInstance();
-                    if (mc.player != null) {
-                        String spanishName = spanishTranslations.get(key);
-                        mc.player.displayClientMessage(
-                            new net.minecraft.util.text.StringTextComponent("Mastered: ")
-                                .withStyle(net.minecraft.util.text.TextFormatting.GOLD, net.minecraft.util.text.TextFormatting.BOLD)
-                                .append(new net.minecraft.util.text.StringTextComponent(spanishName)
-                                    .withStyle(net.minecraft.util.text.TextFormatting.YELLOW)),
-                            false
-                        );
-                    }
+                // Show mastery message
+                Minecraft mc = Minecraft.getInstance();
+                if (mc.player != null) {
+                    String spanishName = translations.getSpanish(key);
+                    mc.player.displayClientMessage(
+                        new net.minecraft.util.text.StringTextComponent("Mastered: ")
+                            .withStyle(net.minecraft.util.text.TextFormatting.GOLD, net.minecraft.util.text.TextFormatting.BOLD)
+                            .append(new net.minecraft.util.text.StringTextComponent(spanishName)
+                                .withStyle(net.minecraft.util.text.TextFormatting.YELLOW)),
+                        false
+                    );
                 }
             }
             
             // Reset the 5-minute timer whenever any flashcard is answered
             resetFlashcardTimer();
-            saveProgress();
+            discoveryCooldownUntil = tasks.deadlineAfter(flashcardInterval);
         }
     }
     
+    /**
+     * @return Discovered, mastered and total counts per category, without scanning any entries
+     */
+    public ProgressStats getStats() {
+        return store.getStats();
+    }
+    
     public int getDiscoveredCount() {
-        return (int) progressMap.values().stream()
-                .filter(entry -> entry.discovered)
-                .count();
+        return store.getDiscoveredCount();
     }
     
     public int getTotalItemCount() {
-        return progressMap.size();
+        return translations.size();
     }
     
     public int getMasteredCount() {
-        return (int) progressMap.values().stream()
-                .filter(entry -> entry.mastered)
-                .count();
+        return store.getMasteredCount();
     }
     
     public int getDiscoveredBiomeCount() {
-        return (int) progressMap.entrySet().stream()
-                .filter(entry -> entry.getKey().startsWith("biome.") && entry.getValue().discovered)
-                .count();
+        return store.getDiscoveredCount(ProgressCategory.BIOME);
     }
     
     public boolean isItemDiscovered(String key) {
-        ProgressEntry entry = progressMap.get(key);
-        return entry != null && entry.discovered;
+        int id = translations.indexOf(key);
+        return id >= 0 && store.isDiscovered(id);
     }
     
     public boolean isBiomeDiscovered(String biomeKey) {
@@ -339,11 +537,13 @@ public class ProgressManager {
     }
     
     public String getEnglishTranslation(String key) {
-        return englishTranslations.getOrDefault(key, key);
+        String translation = translations.getEnglish(key);
+        return translation != null ? translation : key;
     }
     
     public String getSpanishTranslation(String key) {
-        return spanishTranslations.getOrDefault(key, key);
+        String translation = translations.getSpanish(key);
+        return translation != null ? translation : key;
     }
     
     public boolean isWelcomeMessageEnabled() {
@@ -352,7 +552,7 @@ public class ProgressManager {
     
     public void setWelcomeMessageEnabled(boolean enabled) {
         welcomeMessageEnabled = enabled;
-        saveProgress();
+        appendRecord(RECORD_PREFERENCE, System.currentTimeMillis(), PREF_WELCOME_MESSAGE + " " + enabled);
     }
     
     public long getFlashcardIntervalMinutes() {
@@ -362,17 +562,29 @@ public class ProgressManager {
     public void setFlashcardIntervalMinutes(int minutes) {
         if (minutes >= 1 && minutes <= 120) { // Allow 1-120 minutes
             flashcardInterval = minutes * 60 * 1000L;
-            saveProgress();
+            appendRecord(RECORD_PREFERENCE, System.currentTimeMillis(), PREF_FLASHCARD_INTERVAL + " " + flashcardInterval);
+            resetFlashcardTimer();
         }
     }
     
+    public void setAudioPlaybackMode(AudioManager.PlaybackMode mode) {
+        AudioManager.getInstance().setPlaybackMode(mode);
+        appendRecord(RECORD_PREFERENCE, System.currentTimeMillis(), PREF_AUDIO_MODE + " " + mode.name());
+    }
+    
+    /**
+     * Restart the review timer. Client thread only, like the task scheduler.
+     */
     public void resetFlashcardTimer() {
-        lastFlashcardTime = System.currentTimeMillis();
+        if (reviewTask != null) {
+            reviewTask.cancel();
+        }
+        reviewTask = tasks.schedule("flashcard review", flashcardInterval, false, this::onReviewTimer);
     }
     
     public void showStartupFlashcard() {
-        // Reset timer to 0 when joining world (as per requirements)
-        lastFlashcardAnswerTime = 0;
+        // Let discoveries show flashcards right away after joining a world (as per requirements)
+        discoveryCooldownUntil = 0;
         // Show a random flashcard using same logic as other random flashcards
         showRandomFlashcard();
         resetFlashcardTimer();
@@ -0,0 +1,224 @@
+package com.example.languagemod;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Background writer for the progress snapshot and its append-only journal.
+ * <p>
+ * Each change is appended to the journal as a single line, so saving costs the same no matter how much
+ * progress exists. Once the journal grows past the compaction threshold the snapshot is rebuilt on the
+ * calling thread (so progress state is never read concurrently), written to a temp file, atomically moved
+ * into place and the journal is emptied. All file I/O runs in order on a single background thread.
+ * <p>
+ * {@link #shutdown} never builds a snapshot, so it can run from a JVM shutdown hook while the owning
+ * thread is still active; whatever is left in the journal is replayed on the next start. Anything the owning
+ * thread saves after the writer has stopped is written on that thread instead, once the writer's queue is done.
+ */
+public class ProgressPersister {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+    private static final long SHUTDOWN_WAIT_SECONDS = 10;
+    
+    private final Path snapshotFile;
+    private final Path journalFile;
+    private final Supplier<JsonObject> snapshotter;
+    private final long compactThresholdBytes;
+    private final ExecutorService writer;
+    // Only touched by the thread that owns the progress state
+    private long journalBytes;
+    // Only touched by the writer thread, or by the owning thread once the writer has stopped
+    private Writer journalOut;
+    
+    /**
+     * @param snapshotFile The compacted progress file
+     * @param journalFile The journal of changes made since the snapshot was written
+     * @param snapshotter Builds the JSON to save; only called from the thread that appends records
+     * @param compactThresholdBytes Journal size after which the snapshot is rewritten
+     */
+    public ProgressPersister(Path snapshotFile, Path journalFile, Supplier<JsonObject> snapshotter, long compactThresholdBytes) {
+        this.snapshotFile = snapshotFile;
+        this.journalFile = journalFile;
+        this.snapshotter = snapshotter;
+        this.compactThresholdBytes = compactThresholdBytes;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "languagemod-progress-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        
+        try {
+            journalBytes = Files.exists(journalFile) ? Files.size(journalFile) : 0;
+        } catch (IOException e) {
+            journalBytes = 0;
+        }
+    }
+    
+    /**
+     * Read every line of a journal file
+     * @return The records, or an empty list if the journal is missing or unreadable
+     */
+    public static List<String> readJournal(Path journalFile) {
+        List<String> records = new ArrayList<>();
+        if (!Files.exists(journalFile)) {
+            return records;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(journalFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    records.add(line);
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error("Failed to read progress journal", e);
+        }
+        return records;
+    }
+    
+    /**
+     * @return Whether the journal has grown past the compaction threshold
+     */
+    public boolean needsCompaction() {
+        return journalBytes >= compactThresholdBytes;
+    }
+    
+    /**
+     * Append one record to the journal, compacting it into the snapshot if it has grown too large
+     */
+    public void append(String record) {
+        journalBytes += record.length() + 1;
+        submit(() -> writeRecord(record));
+        if (needsCompaction()) {
+            compact();
+        }
+    }
+    
+    /**
+     * Rewrite the snapshot from the current state and empty the journal.
+     * Records appended afterwards are queued behind the snapshot write, so nothing is lost.
+     */
+    public void compact() {
+        JsonObject snapshot = snapshotter.get();
+        journalBytes = 0;
+        submit(() -> writeSnapshot(snapshot));
+    }
+    
+    /**
+     * Compact any journaled changes into the snapshot without waiting for it to be written.
+     * Must be called on the thread that owns the progress state.
+     */
+    public void compactIfChanged() {
+        if (journalBytes > 0) {
+            compact();
+        }
+    }
+    
+    /**
+     * Write out the records and snapshots already queued and stop the writer thread.
+     * Does not read progress state, so any thread may call it.
+     */
+    public void shutdown() {
+        if (writer.isShutdown()) {
+            return;
+        }
+        writer.execute(this::closeJournal);
+        writer.shutdown();
+        awaitWriter();
+    }
+    
+    /**
+     * Queue file work on the writer thread, or run it here if the shutdown hook has already stopped the writer.
+     * Checking {@code isShutdown} first would race the hook, so a rejected task is the signal instead.
+     */
+    private void submit(Runnable task) {
+        try {
+            writer.execute(task);
+        } catch (RejectedExecutionException e) {
+            // Let the writer finish its queue first, so the files are still written in order
+            awaitWriter();
+            task.run();
+        }
+    }
+    
+    private void awaitWriter() {
+        try {
+            if (!writer.awaitTermination(SHUTDOWN_WAIT_SECONDS, TimeUnit.SECONDS)) {
+                LOGGER.error("Timed out waiting for progress to be saved");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+    
+    private void writeRecord(String record) {
+        try {
+            if (journalOut == null) {
+                Files.createDirectories(journalFile.getParent());
+                journalOut = Files.newBufferedWriter(journalFile, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            journalOut.write(record);
+            journalOut.write('\n');
+            journalOut.flush();
+        } catch (IOException e) {
+            LOGGER.error("Failed to append to progress journal", e);
+            closeJournal();
+        }
+    }
+    
+    private void closeJournal() {
+        if (journalOut != null) {
+            try {
+                journalOut.close();
+            } catch (IOException e) {
+                LOGGER.error("Failed to close progress journal", e);
+            }
+            journalOut = null;
+        }
+    }
+    
+    private void writeSnapshot(JsonObject snapshot) {
+        long start = System.nanoTime();
+        Path tempFile = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        try {
+            Files.createDirectories(snapshotFile.getParent());
+            try (Writer out = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+                GSON.toJson(snapshot, out);
+            }
+            try {
+                Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, snapshotFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            
+            // The snapshot records the last journal sequence it covers, so a crash before this point
+            // only means the old records are skipped on replay
+            closeJournal();
+            Files.deleteIfExists(journalFile);
+            LOGGER.debug("Compacted progress in {} ms", (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            LOGGER.error("Failed to save progress", e);
+        }
+    }
+}
\ No newline at end of file
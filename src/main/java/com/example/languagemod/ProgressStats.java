@@ -0,0 +1,46 @@
+package com.example.languagemod;
+
+/**
+ * Immutable copy of the progress counters at one point in time, broken down by {@link ProgressCategory}
+ */
+public final class ProgressStats {
+    private final int[] total;
+    private final int[] discovered;
+    private final int[] mastered;
+    private final int totalCount;
+    private final int discoveredCount;
+    private final int masteredCount;
+    
+    ProgressStats(int[] total, int[] discovered, int[] mastered, int totalCount, int discoveredCount, int masteredCount) {
+        this.total = total;
+        this.discovered = discovered;
+        this.mastered = mastered;
+        this.totalCount = totalCount;
+        this.discoveredCount = discoveredCount;
+        this.masteredCount = masteredCount;
+    }
+    
+    public int getTotal(ProgressCategory category) {
+        return total[category.ordinal()];
+    }
+    
+    public int getDiscovered(ProgressCategory category) {
+        return discovered[category.ordinal()];
+    }
+    
+    public int getMastered(ProgressCategory category) {
+        return mastered[category.ordinal()];
+    }
+    
+    public int getTotalCount() {
+        return totalCount;
+    }
+    
+    public int getDiscoveredCount() {
+        return discoveredCount;
+    }
+    
+    public int getMasteredCount() {
+        return masteredCount;
+    }
+}
\ No newline at end of file
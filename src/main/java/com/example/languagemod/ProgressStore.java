@@ -0,0 +1,210 @@
+package com.example.languagemod;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Random;
+
+/**
+ * Dense progress storage for every translation key, indexed by the key's {@link TranslationStore} id.
+ * <p>
+ * Per-key values live in parallel primitive arrays and the discovered/mastered flags in bit sets, so
+ * scans walk contiguous memory instead of a map of entry objects. Discovered and mastered totals are
+ * kept per {@link ProgressCategory} as each flag changes, so statistics never need a scan.
+ * Not thread-safe; only the client thread touches it.
+ */
+public class ProgressStore {
+    private final BitSet discovered;
+    private final BitSet mastered;
+    // Keys that differ from the default state and need to be saved
+    private final BitSet touched;
+    private final long[] discoveredTime;
+    private final long[] lastAttemptTime;
+    private final int[] correctCount;
+    private final int[] attemptCount;
+    private final ProgressCategory[] categories;
+    private final int[] totalByCategory = new int[ProgressCategory.values().length];
+    private final int[] discoveredByCategory = new int[ProgressCategory.values().length];
+    private final int[] masteredByCategory = new int[ProgressCategory.values().length];
+    private int discoveredCount;
+    private int masteredCount;
+    // Discovered but not mastered ids in no particular order, and each id's slot in it (-1 if absent)
+    private final int[] eligibleIds;
+    private final int[] eligibleSlots;
+    private int eligibleCount;
+    
+    /**
+     * @param categories The category of each key, indexed by id
+     */
+    public ProgressStore(ProgressCategory[] categories) {
+        int size = categories.length;
+        this.categories = categories;
+        for (ProgressCategory category : categories) {
+            totalByCategory[category.ordinal()]++;
+        }
+        discovered = new BitSet(size);
+        mastered = new BitSet(size);
+        touched = new BitSet(size);
+        discoveredTime = new long[size];
+        lastAttemptTime = new long[size];
+        correctCount = new int[size];
+        attemptCount = new int[size];
+        eligibleIds = new int[size];
+        eligibleSlots = new int[size];
+        Arrays.fill(eligibleSlots, -1);
+    }
+    
+    /**
+     * Overwrite every value of one key, e.g. from the saved progress file
+     */
+    public void set(int id, boolean isDiscovered, long discoveredAt, int correct, int attempts, long lastAttemptAt, boolean isMastered) {
+        int category = categories[id].ordinal();
+        if (isDiscovered != discovered.get(id)) {
+            int delta = isDiscovered ? 1 : -1;
+            discoveredCount += delta;
+            discoveredByCategory[category] += delta;
+            discovered.set(id, isDiscovered);
+        }
+        if (isMastered != mastered.get(id)) {
+            int delta = isMastered ? 1 : -1;
+            masteredCount += delta;
+            masteredByCategory[category] += delta;
+            mastered.set(id, isMastered);
+        }
+        touched.set(id, isDiscovered || attempts > 0 || isMastered);
+        updateEligibility(id);
+        discoveredTime[id] = discoveredAt;
+        correctCount[id] = correct;
+        attemptCount[id] = attempts;
+        lastAttemptTime[id] = lastAttemptAt;
+    }
+    
+    public void markDiscovered(int id, long time) {
+        if (!discovered.get(id)) {
+            discoveredCount++;
+            discoveredByCategory[categories[id].ordinal()]++;
+        }
+        discovered.set(id);
+        touched.set(id);
+        discoveredTime[id] = time;
+        updateEligibility(id);
+    }
+    
+    /**
+     * @return The key's correct answer count after this attempt
+     */
+    public int recordAttempt(int id, boolean correct, long time) {
+        touched.set(id);
+        attemptCount[id]++;
+        lastAttemptTime[id] = time;
+        if (correct) {
+            correctCount[id]++;
+        }
+        return correctCount[id];
+    }
+    
+    public void markMastered(int id) {
+        if (!mastered.get(id)) {
+            masteredCount++;
+            masteredByCategory[categories[id].ordinal()]++;
+        }
+        mastered.set(id);
+        touched.set(id);
+        updateEligibility(id);
+    }
+    
+    private void updateEligibility(int id) {
+        boolean eligible = discovered.get(id) && !mastered.get(id);
+        int slot = eligibleSlots[id];
+        if (eligible && slot < 0) {
+            eligibleIds[eligibleCount] = id;
+            eligibleSlots[id] = eligibleCount++;
+        } else if (!eligible && slot >= 0) {
+            // Move the last id into the freed slot
+            int lastId = eligibleIds[--eligibleCount];
+            eligibleIds[slot] = lastId;
+            eligibleSlots[lastId] = slot;
+            eligibleSlots[id] = -1;
+        }
+    }
+    
+    /**
+     * @return The number of discovered keys that have not been mastered yet
+     */
+    public int getEligibleCount() {
+        return eligibleCount;
+    }
+    
+    /**
+     * @return A uniformly chosen discovered but not mastered id, or -1 if there is none
+     */
+    public int pickEligible(Random random) {
+        return eligibleCount > 0 ? eligibleIds[random.nextInt(eligibleCount)] : -1;
+    }
+    
+    public boolean isDiscovered(int id) {
+        return discovered.get(id);
+    }
+    
+    public boolean isMastered(int id) {
+        return mastered.get(id);
+    }
+    
+    public long getDiscoveredTime(int id) {
+        return discoveredTime[id];
+    }
+    
+    public int getCorrectCount(int id) {
+        return correctCount[id];
+    }
+    
+    public int getAttemptCount(int id) {
+        return attemptCount[id];
+    }
+    
+    public long getLastAttemptTime(int id) {
+        return lastAttemptTime[id];
+    }
+    
+    public ProgressCategory getCategory(int id) {
+        return categories[id];
+    }
+    
+    public int getDiscoveredCount() {
+        return discoveredCount;
+    }
+    
+    public int getMasteredCount() {
+        return masteredCount;
+    }
+    
+    public int getDiscoveredCount(ProgressCategory category) {
+        return discoveredByCategory[category.ordinal()];
+    }
+    
+    /**
+     * @return A copy of the current counters
+     */
+    public ProgressStats getStats() {
+        return new ProgressStats(totalByCategory.clone(), discoveredByCategory.clone(), masteredByCategory.clone(),
+            categories.length, discoveredCount, masteredCount);
+    }
+    
+    public int getTouchedCount() {
+        return touched.cardinality();
+    }
+    
+    /**
+     * @return The first id at or after fromId that needs to be saved, or -1 if there is none
+     */
+    public int nextTouched(int fromId) {
+        return touched.nextSetBit(fromId);
+    }
+    
+    /**
+     * Approximate heap used by the arrays and bit sets
+     */
+    public long estimateRetainedBytes() {
+        int size = discoveredTime.length;
+        return 2L * (16 + 8L * size) + 2L * (16 + 4L * size) + 3L * (16 + 16 + size / 8);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,226 @@
+package com.example.languagemod;
+
+import java.util.Arrays;
+
+/**
+ * SM-2 spaced repetition schedule for every card, indexed by translation key id.
+ * <p>
+ * Each card keeps an ease factor, its current interval and the time it is next due. Cards that are not due
+ * yet wait in a binary min-heap ordered by due time; once due they move to a max-heap, so the card that came
+ * due most recently is reviewed first. With more cards due than review slots, the longest overdue cards are
+ * the ones most likely forgotten already, and spending the slot on a card that is still fresh keeps more of
+ * them. A card moves between the heaps at most once per review, so finding and rescheduling it costs
+ * O(log n). A typed answer is either right or wrong, so those are mapped onto SM-2's quality grades 4 and 1.
+ * Not thread-safe.
+ */
+public class ReviewScheduler {
+    public static final float DEFAULT_EASE = 2.5f;
+    private static final float MIN_EASE = 1.3f;
+    public static final long MINUTE_MILLIS = 60 * 1000L;
+    public static final long DAY_MILLIS = 24 * 60 * MINUTE_MILLIS;
+    private static final long FIRST_INTERVAL = DAY_MILLIS;
+    private static final long SECOND_INTERVAL = 6 * DAY_MILLIS;
+    // A missed card comes back within the same play session
+    private static final long RELEARN_DELAY = 10 * MINUTE_MILLIS;
+    private static final int GRADE_CORRECT = 4;
+    private static final int GRADE_WRONG = 1;
+    private static final byte WAITING = 1;
+    private static final byte READY = 2;
+    
+    private final float[] ease;
+    private final long[] interval;
+    private final int[] repetitions;
+    private final long[] due;
+    // Which heap each id is in, and its slot there (-1 if not scheduled)
+    private final byte[] heapOf;
+    private final int[] heapSlots;
+    private final DueHeap waiting;
+    private final DueHeap ready;
+    
+    public ReviewScheduler(int size) {
+        ease = new float[size];
+        interval = new long[size];
+        repetitions = new int[size];
+        due = new long[size];
+        heapOf = new byte[size];
+        heapSlots = new int[size];
+        waiting = new DueHeap(WAITING, size);
+        ready = new DueHeap(READY, size);
+        Arrays.fill(ease, DEFAULT_EASE);
+        Arrays.fill(heapSlots, -1);
+    }
+    
+    /**
+     * Start scheduling a new card, due immediately at the given time. Does nothing if it is already scheduled.
+     */
+    public void add(int id, long dueTime) {
+        if (heapSlots[id] < 0) {
+            due[id] = dueTime;
+            waiting.push(id);
+        }
+    }
+    
+    /**
+     * Overwrite a card's saved schedule and make sure it is scheduled
+     */
+    public void restore(int id, float savedEase, long savedInterval, int savedRepetitions, long dueTime) {
+        ease[id] = Math.max(MIN_EASE, savedEase);
+        interval[id] = savedInterval;
+        repetitions[id] = savedRepetitions;
+        reschedule(id, dueTime);
+    }
+    
+    /**
+     * Grade a review and reschedule the card. A correct answer before the card is due only restarts its
+     * current interval from now, so answering a card early can't grow the interval towards mastery.
+     * @return The card's new interval in milliseconds, 0 after a lapse
+     */
+    public long review(int id, boolean correct, long time) {
+        if (correct && heapSlots[id] >= 0 && time < due[id]) {
+            if (interval[id] > 0) {
+                reschedule(id, Math.max(due[id], time + interval[id]));
+            }
+            return interval[id];
+        }
+        
+        int grade = correct ? GRADE_CORRECT : GRADE_WRONG;
+        if (grade >= 3) {
+            repetitions[id]++;
+            if (repetitions[id] == 1) {
+                interval[id] = FIRST_INTERVAL;
+            } else if (repetitions[id] == 2) {
+                interval[id] = SECOND_INTERVAL;
+            } else {
+                interval[id] = Math.round(interval[id] * (double) ease[id]);
+            }
+        } else {
+            repetitions[id] = 0;
+            interval[id] = 0;
+        }
+        int miss = 5 - grade;
+        ease[id] = Math.max(MIN_EASE, ease[id] + 0.1f - miss * (0.08f + miss * 0.02f));
+        
+        reschedule(id, time + (interval[id] > 0 ? interval[id] : RELEARN_DELAY));
+        return interval[id];
+    }
+    
+    /**
+     * @return The card that came due most recently as of the given time, or -1 if none is due
+     */
+    public int peekDue(long now) {
+        while (waiting.size > 0 && due[waiting.ids[0]] <= now) {
+            ready.push(waiting.pop());
+        }
+        return ready.size > 0 ? ready.ids[0] : -1;
+    }
+    
+    public boolean isScheduled(int id) {
+        return heapSlots[id] >= 0;
+    }
+    
+    public float getEase(int id) {
+        return ease[id];
+    }
+    
+    public long getInterval(int id) {
+        return interval[id];
+    }
+    
+    public int getRepetitions(int id) {
+        return repetitions[id];
+    }
+    
+    public long getDue(int id) {
+        return due[id];
+    }
+    
+    private void reschedule(int id, long dueTime) {
+        if (heapSlots[id] >= 0) {
+            (heapOf[id] == READY ? ready : waiting).remove(id);
+        }
+        due[id] = dueTime;
+        waiting.push(id);
+    }
+    
+    /**
+     * Binary heap of card ids keyed on their due time, earliest first for waiting cards and latest first
+     * for ready ones. Slots are tracked in the shared {@code heapSlots} so any card can be removed.
+     */
+    private class DueHeap {
+        private final byte kind;
+        private final int[] ids;
+        private int size;
+        
+        DueHeap(byte kind, int capacity) {
+            this.kind = kind;
+            this.ids = new int[capacity];
+        }
+        
+        void push(int id) {
+            heapOf[id] = kind;
+            ids[size] = id;
+            siftUp(size++);
+        }
+        
+        int pop() {
+            int id = ids[0];
+            remove(id);
+            return id;
+        }
+        
+        void remove(int id) {
+            int slot = heapSlots[id];
+            heapSlots[id] = -1;
+            int last = ids[--size];
+            if (slot < size) {
+                ids[slot] = last;
+                heapSlots[last] = slot;
+                siftDown(slot);
+                if (ids[slot] == last) {
+                    siftUp(slot);
+                }
+            }
+        }
+        
+        private boolean before(int a, int b) {
+            return kind == READY ? due[a] > due[b] : due[a] < due[b];
+        }
+        
+        private void siftUp(int slot) {
+            int id = ids[slot];
+            while (slot > 0) {
+                int parent = (slot - 1) >>> 1;
+                int parentId = ids[parent];
+                if (!before(id, parentId)) {
+                    break;
+                }
+                ids[slot] = parentId;
+                heapSlots[parentId] = slot;
+                slot = parent;
+            }
+            ids[slot] = id;
+            heapSlots[id] = slot;
+        }
+        
+        private void siftDown(int slot) {
+            int id = ids[slot];
+            int half = size >>> 1;
+            while (slot < half) {
+                int child = 2 * slot + 1;
+                int right = child + 1;
+                if (right < size && before(ids[right], ids[child])) {
+                    child = right;
+                }
+                int childId = ids[child];
+                if (!before(childId, id)) {
+                    break;
+                }
+                ids[slot] = childId;
+                heapSlots[childId] = slot;
+                slot = child;
+            }
+            ids[slot] = id;
+            heapSlots[id] = slot;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,283 @@
+package com.example.languagemod;
+
+import com.google.gson.stream.JsonReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+/**
+ * Compact binary form of en_us.json, es_mx.json and sounds.json, compiled ahead of time so the client
+ * can load every translation with one bulk read instead of parsing about 500 KB of JSON.
+ * <p>
+ * Layout (big-endian, strings as modified UTF-8):
+ * <pre>
+ * int magic, int version, int sourceChecksum, int keyCount
+ * keyCount x { byte flags, key, [english], [spanish] }   keys in ascending order
+ * int soundOnlyCount, soundOnlyCount x key               sounds without a lang entry
+ * </pre>
+ * Run {@link #main} after editing any of the source files to regenerate the bundle. When the bundle is
+ * missing or was written by a different format version, the JSON files are parsed instead. The committed
+ * bundle is trusted at runtime; launching with {@code -Dlanguagemod.checkTranslationBundle=true} also compares
+ * its source checksum (CRC32 of en_us.json, es_mx.json and sounds.json, in that order) with the JSON files and
+ * falls back to them if it is stale, which is meant for development runs since it reads all three files.
+ * <p>
+ * Resource packs that override the lang files are not picked up by either path: both read the mod's own
+ * resources, since key ids index the saved progress and cannot change after the store is created.
+ */
+public class TranslationBundle {
+    private static final Logger LOGGER = LogManager.getLogger();
+    static final String BUNDLE_RESOURCE = "/assets/languagemod/translations.bin";
+    private static final int MAGIC = 0x4C4D5442; // "LMTB"
+    private static final int VERSION = 2;
+    private static final boolean CHECK_SOURCES = Boolean.getBoolean("languagemod.checkTranslationBundle");
+    // The files the bundle is compiled from, in checksum order
+    private static final String[] SOURCE_RESOURCES = {
+        TranslationStore.EN_US_RESOURCE, TranslationStore.ES_MX_RESOURCE, ModSounds.SOUNDS_RESOURCE
+    };
+    private static final String[] SOURCE_FILES = {"lang/en_us.json", "lang/es_mx.json", "sounds.json"};
+    private static final int FLAG_ENGLISH = 1;
+    private static final int FLAG_SPANISH = 2;
+    private static final int FLAG_SOUND = 4;
+    
+    private final TranslationStore translations;
+    private final List<String> soundKeys;
+    
+    private TranslationBundle(TranslationStore translations, List<String> soundKeys) {
+        this.translations = translations;
+        this.soundKeys = soundKeys;
+    }
+    
+    public TranslationStore getTranslations() {
+        return translations;
+    }
+    
+    /**
+     * @return Translation keys that have a Spanish sound in sounds.json
+     */
+    public List<String> getSoundKeys() {
+        return soundKeys;
+    }
+    
+    /**
+     * Read the bundled translations from the mod resources
+     * @return The bundle, or null if it is missing or unreadable so callers can fall back to JSON
+     */
+    public static TranslationBundle load() {
+        long start = System.nanoTime();
+        try (InputStream inputStream = TranslationBundle.class.getResourceAsStream(BUNDLE_RESOURCE)) {
+            if (inputStream == null) {
+                LOGGER.info("No translation bundle found, using JSON translations");
+                return null;
+            }
+            long expectedChecksum = CHECK_SOURCES ? readSourceChecksum() : -1;
+            TranslationBundle bundle = read(readFully(inputStream), expectedChecksum);
+            if (bundle != null) {
+                LOGGER.info("Loaded {} translations and {} sounds from bundle in {} ms",
+                    bundle.translations.size(), bundle.soundKeys.size(), (System.nanoTime() - start) / 1_000_000);
+            }
+            return bundle;
+        } catch (IOException e) {
+            LOGGER.error("Failed to read translation bundle, using JSON translations", e);
+            return null;
+        }
+    }
+    
+    /**
+     * @return The checksum of the JSON sources on the classpath, or -1 if one is missing and it cannot be checked
+     */
+    private static long readSourceChecksum() throws IOException {
+        byte[][] sources = new byte[SOURCE_RESOURCES.length][];
+        for (int i = 0; i < sources.length; i++) {
+            try (InputStream inputStream = TranslationBundle.class.getResourceAsStream(SOURCE_RESOURCES[i])) {
+                if (inputStream == null) {
+                    return -1;
+                }
+                sources[i] = readFully(inputStream);
+            }
+        }
+        return sourceChecksum(sources) & 0xFFFFFFFFL;
+    }
+    
+    private static int sourceChecksum(byte[]... sources) {
+        CRC32 crc = new CRC32();
+        for (byte[] source : sources) {
+            crc.update(source, 0, source.length);
+        }
+        return (int) crc.getValue();
+    }
+    
+    private static byte[] readFully(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(256 * 1024);
+        byte[] chunk = new byte[64 * 1024];
+        int read;
+        while ((read = inputStream.read(chunk)) != -1) {
+            buffer.write(chunk, 0, read);
+        }
+        return buffer.toByteArray();
+    }
+    
+    /**
+     * @param expectedChecksum Checksum of the current JSON sources as an unsigned value, or -1 to skip the check
+     */
+    static TranslationBundle read(byte[] data, long expectedChecksum) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+        if (in.readInt() != MAGIC) {
+            LOGGER.warn("Translation bundle has an unknown header, using JSON translations");
+            return null;
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            LOGGER.warn("Translation bundle version {} is not supported, using JSON translations", version);
+            return null;
+        }
+        long checksum = in.readInt() & 0xFFFFFFFFL;
+        if (expectedChecksum >= 0 && checksum != expectedChecksum) {
+            LOGGER.warn("Translation bundle is stale (lang files or sounds.json changed since it was compiled), "
+                + "using JSON translations; run TranslationBundle to regenerate it");
+            return null;
+        }
+        
+        int keyCount = in.readInt();
+        String[] keys = new String[keyCount];
+        String[] english = new String[keyCount];
+        String[] spanish = new String[keyCount];
+        List<String> soundKeys = new ArrayList<>();
+        for (int id = 0; id < keyCount; id++) {
+            int flags = in.readByte();
+            keys[id] = in.readUTF();
+            english[id] = (flags & FLAG_ENGLISH) != 0 ? in.readUTF() : null;
+            spanish[id] = (flags & FLAG_SPANISH) != 0 ? in.readUTF() : null;
+            if ((flags & FLAG_SOUND) != 0) {
+                soundKeys.add(keys[id]);
+            }
+        }
+        int soundOnlyCount = in.readInt();
+        for (int i = 0; i < soundOnlyCount; i++) {
+            soundKeys.add(in.readUTF());
+        }
+        
+        return new TranslationBundle(TranslationStore.fromSortedArrays(keys, english, spanish), soundKeys);
+    }
+    
+    /**
+     * Compile the JSON sources into the binary bundle.
+     * <p>
+     * Usage: {@code TranslationBundle <resourcesDir> [outputFile]} where resourcesDir is
+     * {@code src/main/resources}; the output defaults to the bundle's resource path inside it.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: TranslationBundle <resourcesDir> [outputFile]");
+            return;
+        }
+        File resourcesDir = new File(args[0]);
+        File output = args.length > 1 ? new File(args[1]) : new File(resourcesDir, BUNDLE_RESOURCE.substring(1));
+        File assetsDir = new File(resourcesDir, "assets/languagemod");
+        
+        Map<String, String> englishTranslations = readJsonFile(new File(assetsDir, "lang/en_us.json"));
+        Map<String, String> spanishTranslations = readJsonFile(new File(assetsDir, "lang/es_mx.json"));
+        List<String> soundKeys = readSoundKeys(new File(assetsDir, "sounds.json"));
+        byte[][] sources = new byte[SOURCE_FILES.length][];
+        for (int i = 0; i < sources.length; i++) {
+            sources[i] = Files.readAllBytes(new File(assetsDir, SOURCE_FILES[i]).toPath());
+        }
+        int checksum = sourceChecksum(sources);
+        boolean stale = !output.exists() || readStoredChecksum(output) != checksum;
+        write(englishTranslations, spanishTranslations, soundKeys, checksum, output);
+        System.out.println("Wrote " + output + " (" + output.length() + " bytes)"
+            + (stale ? ", the previous bundle was missing or stale" : ", sources unchanged"));
+    }
+    
+    /**
+     * @return The source checksum recorded in a bundle file, or 0 if it has another format
+     */
+    private static int readStoredChecksum(File bundleFile) throws IOException {
+        try (DataInputStream in = new DataInputStream(new FileInputStream(bundleFile))) {
+            return in.readInt() == MAGIC && in.readInt() == VERSION ? in.readInt() : 0;
+        }
+    }
+    
+    private static Map<String, String> readJsonFile(File file) throws IOException {
+        Map<String, String> translations = new HashMap<>();
+        try (Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
+            TranslationStore.readTranslations(reader, translations);
+        }
+        return translations;
+    }
+    
+    private static List<String> readSoundKeys(File file) throws IOException {
+        List<String> soundKeys = new ArrayList<>();
+        try (JsonReader reader = new JsonReader(new BufferedReader(new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String soundKey = reader.nextName();
+                reader.skipValue();
+                if (soundKey.startsWith("es_mx.")) {
+                    soundKeys.add(soundKey.substring(6));
+                }
+            }
+            reader.endObject();
+        }
+        return soundKeys;
+    }
+    
+    private static void write(Map<String, String> englishTranslations, Map<String, String> spanishTranslations,
+                              List<String> soundKeys, int sourceChecksum, File output) throws IOException {
+        TreeSet<String> keys = new TreeSet<>(englishTranslations.keySet());
+        keys.addAll(spanishTranslations.keySet());
+        TreeSet<String> soundOnlyKeys = new TreeSet<>(soundKeys);
+        soundOnlyKeys.removeAll(keys);
+        TreeSet<String> soundKeySet = new TreeSet<>(soundKeys);
+        
+        File parent = output.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(output)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(sourceChecksum);
+            out.writeInt(keys.size());
+            for (String key : keys) {
+                String english = englishTranslations.get(key);
+                String spanish = spanishTranslations.get(key);
+                int flags = (english != null ? FLAG_ENGLISH : 0)
+                    | (spanish != null ? FLAG_SPANISH : 0)
+                    | (soundKeySet.contains(key) ? FLAG_SOUND : 0);
+                out.writeByte(flags);
+                out.writeUTF(key);
+                if (english != null) {
+                    out.writeUTF(english);
+                }
+                if (spanish != null) {
+                    out.writeUTF(spanish);
+                }
+            }
+            out.writeInt(soundOnlyKeys.size());
+            for (String key : soundOnlyKeys) {
+                out.writeUTF(key);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,205 @@
+package com.example.languagemod;
+
+import net.minecraft.block.Block;
+import net.minecraft.entity.EntityType;
+import net.minecraft.item.Item;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.registries.ForgeRegistries;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maps registered blocks, entity types, items and biomes to their translation keys.
+ * Built once during client setup so hot paths resolve a target to its bilingual pair
+ * with a single identity lookup instead of building the key string each time.
+ * Targets registered after setup (e.g. datapack biomes) are indexed on first lookup.
+ */
+public class TranslationKeyIndex {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static TranslationKeyIndex instance;
+    
+    private final Map<Block, Entry> blocks = new IdentityHashMap<>();
+    private final Map<EntityType<?>, Entry> entityTypes = new IdentityHashMap<>();
+    private final Map<Item, Entry> items = new IdentityHashMap<>();
+    private final Map<ResourceLocation, Entry> biomes = new HashMap<>();
+    private final Map<String, Entry> entriesByKey = new HashMap<>();
+    // Keys in the translation store use the store's id; unknown keys are numbered after them
+    private Entry[] storeEntries = new Entry[0];
+    private final List<Entry> extraEntries = new ArrayList<>();
+    
+    private TranslationStore translations;
+    
+    /**
+     * A translation key with its integer id and resolved translations.
+     * The id matches {@link TranslationStore#indexOf} for keys present in the language files.
+     * Missing translations fall back to the key itself, matching the translation getters.
+     */
+    public static class Entry {
+        public final int id;
+        public final String key;
+        public final String english;
+        public final String spanish;
+        
+        private Entry(int id, String key, String english, String spanish) {
+            this.id = id;
+            this.key = key;
+            this.english = english;
+            this.spanish = spanish;
+        }
+        
+        public boolean hasEnglishTranslation() {
+            return english != key;
+        }
+    }
+    
+    private TranslationKeyIndex() {
+    }
+    
+    public static TranslationKeyIndex getInstance() {
+        if (instance == null) {
+            instance = new TranslationKeyIndex();
+        }
+        return instance;
+    }
+    
+    /**
+     * Index every registered block, entity type, item and biome.
+     */
+    public void build(TranslationStore store) {
+        long start = System.nanoTime();
+        translations = store;
+        clear();
+        storeEntries = new Entry[store.size()];
+        
+        for (Block block : ForgeRegistries.BLOCKS.getValues()) {
+            forBlock(block);
+        }
+        for (EntityType<?> entityType : ForgeRegistries.ENTITIES.getValues()) {
+            forEntityType(entityType);
+        }
+        for (Item item : ForgeRegistries.ITEMS.getValues()) {
+            forItem(item);
+        }
+        for (ResourceLocation biomeRL : ForgeRegistries.BIOMES.getKeys()) {
+            forBiome(biomeRL);
+        }
+        
+        LOGGER.info("Indexed {} blocks, {} entities, {} items and {} biomes into {} translation keys in {} ms",
+            blocks.size(), entityTypes.size(), items.size(), biomes.size(), entriesByKey.size(),
+            (System.nanoTime() - start) / 1_000_000);
+    }
+    
+    private void clear() {
+        blocks.clear();
+        entityTypes.clear();
+        items.clear();
+        biomes.clear();
+        entriesByKey.clear();
+        extraEntries.clear();
+    }
+    
+    /**
+     * @return The entry for a block, or null if the block has no registry name
+     */
+    public Entry forBlock(Block block) {
+        Entry entry = blocks.get(block);
+        if (entry == null) {
+            ResourceLocation blockRL = block.getRegistryName();
+            if (blockRL == null) {
+                return null;
+            }
+            entry = forKey("block." + blockRL.toString().replace(':', '.'));
+            blocks.put(block, entry);
+        }
+        return entry;
+    }
+    
+    /**
+     * @return The entry for an entity type, or null if the type has no registry name
+     */
+    public Entry forEntityType(EntityType<?> entityType) {
+        Entry entry = entityTypes.get(entityType);
+        if (entry == null) {
+            ResourceLocation entityRL = entityType.getRegistryName();
+            if (entityRL == null) {
+                return null;
+            }
+            entry = forKey("entity." + entityRL.toString().replace(':', '.'));
+            entityTypes.put(entityType, entry);
+        }
+        return entry;
+    }
+    
+    public Entry forItem(Item item) {
+        Entry entry = items.get(item);
+        if (entry == null) {
+            entry = forKey(item.getDescriptionId());
+            items.put(item, entry);
+        }
+        return entry;
+    }
+    
+    public Entry forBiome(ResourceLocation biomeRL) {
+        Entry entry = biomes.get(biomeRL);
+        if (entry == null) {
+            entry = forKey("biome." + biomeRL.toString().replace(':', '.'));
+            biomes.put(biomeRL, entry);
+        }
+        return entry;
+    }
+    
+    /**
+     * Get or create the entry for a translation key; targets sharing a key share one entry
+     */
+    public Entry forKey(String key) {
+        Entry entry = entriesByKey.get(key);
+        if (entry == null) {
+            int storeId = translations != null ? translations.indexOf(key) : -1;
+            if (storeId >= 0) {
+                entry = forStoreId(storeId);
+            } else {
+                String internedKey = key.intern();
+                entry = new Entry(storeEntries.length + extraEntries.size(), internedKey, internedKey, internedKey);
+                extraEntries.add(entry);
+                entriesByKey.put(internedKey, entry);
+            }
+        }
+        return entry;
+    }
+    
+    private Entry forStoreId(int storeId) {
+        Entry entry = storeEntries[storeId];
+        if (entry == null) {
+            String internedKey = translations.getKey(storeId).intern();
+            String english = translations.getEnglish(storeId);
+            String spanish = translations.getSpanish(storeId);
+            entry = new Entry(storeId, internedKey,
+                english != null ? english : internedKey,
+                spanish != null ? spanish : internedKey);
+            storeEntries[storeId] = entry;
+            entriesByKey.put(internedKey, entry);
+        }
+        return entry;
+    }
+    
+    public Entry byId(int id) {
+        if (id >= 0 && id < storeEntries.length) {
+            return forStoreId(id);
+        }
+        int extraId = id - storeEntries.length;
+        return extraId >= 0 && extraId < extraEntries.size() ? extraEntries.get(extraId) : null;
+    }
+    
+    /**
+     * @return The number of ids handed out so far (store keys plus indexed keys missing from it)
+     */
+    public int size() {
+        return storeEntries.length + extraEntries.size();
+    }
+}
\ No newline at end of file
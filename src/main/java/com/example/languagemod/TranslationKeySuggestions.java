@@ -0,0 +1,80 @@
+package com.example.languagemod;
+
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.brigadier.suggestion.SuggestionProvider;
+import com.mojang.brigadier.suggestion.Suggestions;
+import com.mojang.brigadier.suggestion.SuggestionsBuilder;
+import net.minecraft.command.CommandSource;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Tab completion for command arguments that take a translation key.
+ * <p>
+ * All translation and sound keys are merged once into a sorted array. Each keystroke binary-searches
+ * for the first key at or after the typed text and walks forward while keys still start with it, stopping
+ * after {@link #MAX_SUGGESTIONS} so a short prefix doesn't flood the chat suggestion list.
+ */
+public class TranslationKeySuggestions implements SuggestionProvider<CommandSource> {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final int MAX_SUGGESTIONS = 50;
+    private static volatile TranslationKeySuggestions instance;
+    
+    private final String[] keys;
+    
+    private TranslationKeySuggestions(String[] keys) {
+        this.keys = keys;
+    }
+    
+    /**
+     * Get the shared provider, collecting the keys on first use
+     */
+    public static TranslationKeySuggestions getInstance() {
+        TranslationKeySuggestions provider = instance;
+        if (provider == null) {
+            synchronized (TranslationKeySuggestions.class) {
+                provider = instance;
+                if (provider == null) {
+                    TranslationStore translations = TranslationStore.getInstance();
+                    TreeSet<String> allKeys = new TreeSet<>(AssetBootstrap.awaitSoundKeys());
+                    for (int id = 0; id < translations.size(); id++) {
+                        allKeys.add(translations.getKey(id));
+                    }
+                    provider = new TranslationKeySuggestions(allKeys.toArray(new String[0]));
+                    LOGGER.debug("Key suggestions cover {} translation and sound keys", provider.keys.length);
+                    instance = provider;
+                }
+            }
+        }
+        return provider;
+    }
+    
+    @Override
+    public CompletableFuture<Suggestions> getSuggestions(CommandContext<CommandSource> context, SuggestionsBuilder builder) {
+        for (String key : complete(builder.getRemaining())) {
+            builder.suggest(key);
+        }
+        return builder.buildFuture();
+    }
+    
+    /**
+     * @return Up to {@link #MAX_SUGGESTIONS} keys starting with the prefix, in order
+     */
+    public List<String> complete(String prefix) {
+        int index = Arrays.binarySearch(keys, prefix);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        List<String> completions = new ArrayList<>();
+        while (index < keys.length && completions.size() < MAX_SUGGESTIONS && keys[index].startsWith(prefix)) {
+            completions.add(keys[index++]);
+        }
+        return completions;
+    }
+}
\ No newline at end of file
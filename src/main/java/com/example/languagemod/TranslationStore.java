@@ -0,0 +1,276 @@
+package com.example.languagemod;
+
+import com.google.gson.stream.JsonReader;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Immutable store holding the English and Spanish translations of every key.
+ * Both language files are parsed exactly once and shared by every class that needs translations.
+ * <p>
+ * Keys are kept sorted so each key's position doubles as its integer id; lookups by key go through
+ * an open-addressed hash table of ids, and translations live in parallel value arrays. Each translation's
+ * folded form (accents stripped, lower-cased, see {@link AnswerMatcher#normalize}) is computed once at load
+ * time and kept alongside it for answer checking and search.
+ */
+public final class TranslationStore {
+    private static final Logger LOGGER = LogManager.getLogger();
+    static final String EN_US_RESOURCE = "/assets/languagemod/lang/en_us.json";
+    static final String ES_MX_RESOURCE = "/assets/languagemod/lang/es_mx.json";
+    private static volatile TranslationStore instance;
+    // Java 9+ stores Latin-1 strings one byte per character
+    private static final boolean COMPACT_STRINGS = !System.getProperty("java.specification.version").startsWith("1.");
+    
+    private final String[] keys;
+    private final String[] english;
+    private final String[] spanish;
+    private final String[] foldedEnglish;
+    private final String[] foldedSpanish;
+    // Open-addressed table of id + 1 (0 marks an empty slot), linear probing
+    private final int[] table;
+    private final int mask;
+    
+    /**
+     * @param keys Translation keys in ascending order
+     * @param english English translations parallel to keys, null where missing
+     * @param spanish Spanish translations parallel to keys, null where missing
+     */
+    private TranslationStore(String[] keys, String[] english, String[] spanish) {
+        this.keys = keys;
+        this.english = english;
+        this.spanish = spanish;
+        this.foldedEnglish = fold(english);
+        this.foldedSpanish = fold(spanish);
+        
+        int size = keys.length;
+        int capacity = Integer.highestOneBit(Math.max(2, size * 2 - 1)) << 1;
+        table = new int[capacity];
+        mask = capacity - 1;
+        for (int id = 0; id < size; id++) {
+            int slot = mix(keys[id].hashCode()) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = id + 1;
+        }
+    }
+    
+    /**
+     * Get the shared store, waiting for the asset bootstrap to finish loading it on first use
+     */
+    public static TranslationStore getInstance() {
+        TranslationStore store = instance;
+        if (store == null) {
+            synchronized (TranslationStore.class) {
+                store = instance;
+                if (store == null) {
+                    store = AssetBootstrap.awaitTranslations();
+                    LOGGER.info("Translation store holds {} keys, ~{} KB retained",
+                        store.size(), store.estimateRetainedBytes() / 1024);
+                    instance = store;
+                }
+            }
+        }
+        return store;
+    }
+    
+    /**
+     * Parse both language files on the calling thread
+     */
+    static TranslationStore load() {
+        return create(loadTranslationsFromResource(EN_US_RESOURCE), loadTranslationsFromResource(ES_MX_RESOURCE));
+    }
+    
+    static TranslationStore create(Map<String, String> englishTranslations, Map<String, String> spanishTranslations) {
+        TreeSet<String> allKeys = new TreeSet<>(englishTranslations.keySet());
+        allKeys.addAll(spanishTranslations.keySet());
+        
+        String[] keys = allKeys.toArray(new String[0]);
+        String[] english = new String[keys.length];
+        String[] spanish = new String[keys.length];
+        for (int id = 0; id < keys.length; id++) {
+            english[id] = englishTranslations.get(keys[id]);
+            spanish[id] = spanishTranslations.get(keys[id]);
+        }
+        
+        return new TranslationStore(keys, english, spanish);
+    }
+    
+    /**
+     * Create a store from arrays that are already sorted by key, e.g. from the compiled translation bundle
+     */
+    static TranslationStore fromSortedArrays(String[] keys, String[] english, String[] spanish) {
+        return new TranslationStore(keys, english, spanish);
+    }
+    
+    /**
+     * Stream a flat lang file straight into a map without building a JSON tree first
+     */
+    static Map<String, String> loadTranslationsFromResource(String resourcePath) {
+        long start = System.nanoTime();
+        Map<String, String> translations = new HashMap<>();
+        try {
+            InputStream inputStream = TranslationStore.class.getResourceAsStream(resourcePath);
+            if (inputStream == null) {
+                LOGGER.error("Could not find resource: " + resourcePath);
+                return translations;
+            }
+            
+            try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+                readTranslations(reader, translations);
+            }
+        } catch (Exception e) {
+            LOGGER.error("Failed to load translations from resource: " + resourcePath, e);
+        }
+        LOGGER.info("Loaded {} translations from {} in {} ms",
+            translations.size(), resourcePath, (System.nanoTime() - start) / 1_000_000);
+        return translations;
+    }
+    
+    static void readTranslations(Reader input, Map<String, String> target) throws IOException {
+        JsonReader reader = new JsonReader(new BufferedReader(input));
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String key = reader.nextName();
+            target.put(key, reader.nextString());
+        }
+        reader.endObject();
+    }
+    
+    /**
+     * Fold every value, sharing the original string where folding leaves it unchanged
+     */
+    private static String[] fold(String[] values) {
+        String[] folded = new String[values.length];
+        for (int id = 0; id < values.length; id++) {
+            folded[id] = values[id] != null ? AnswerMatcher.normalize(values[id]) : null;
+        }
+        return folded;
+    }
+    
+    private static int mix(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+    
+    /**
+     * @return The id of a translation key, or -1 if the key is unknown
+     */
+    public int indexOf(String key) {
+        int slot = mix(key.hashCode()) & mask;
+        int entry;
+        while ((entry = table[slot]) != 0) {
+            if (keys[entry - 1].equals(key)) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+    
+    public boolean containsKey(String key) {
+        return indexOf(key) >= 0;
+    }
+    
+    public int size() {
+        return keys.length;
+    }
+    
+    public String getKey(int id) {
+        return keys[id];
+    }
+    
+    /**
+     * @return The English translation for an id, or null if the key has none
+     */
+    public String getEnglish(int id) {
+        return english[id];
+    }
+    
+    /**
+     * @return The Spanish translation for an id, or null if the key has none
+     */
+    public String getSpanish(int id) {
+        return spanish[id];
+    }
+    
+    /**
+     * @return The folded English translation for an id, or null if the key has none
+     */
+    public String getFoldedEnglish(int id) {
+        return foldedEnglish[id];
+    }
+    
+    /**
+     * @return The folded Spanish translation for an id, or null if the key has none
+     */
+    public String getFoldedSpanish(int id) {
+        return foldedSpanish[id];
+    }
+    
+    /**
+     * @return The English translation for a key, or null if missing
+     */
+    public String getEnglish(String key) {
+        int id = indexOf(key);
+        return id >= 0 ? english[id] : null;
+    }
+    
+    /**
+     * @return The Spanish translation for a key, or null if missing
+     */
+    public String getSpanish(String key) {
+        int id = indexOf(key);
+        return id >= 0 ? spanish[id] : null;
+    }
+    
+    /**
+     * Shallow-plus-strings size of the store, assuming compressed oops. On Java 9 and later, strings that fit
+     * in Latin-1 take one byte per character; on Java 8 every string is UTF-16.
+     */
+    public long estimateRetainedBytes() {
+        long bytes = 32 + 5 * arrayBytes(keys.length, 4) + arrayBytes(table.length, 4);
+        for (int id = 0; id < keys.length; id++) {
+            bytes += estimateStringBytes(keys[id]) + estimateStringBytes(english[id]) + estimateStringBytes(spanish[id]);
+            // Folded strings identical to their original share it
+            if (foldedEnglish[id] != english[id]) {
+                bytes += estimateStringBytes(foldedEnglish[id]);
+            }
+            if (foldedSpanish[id] != spanish[id]) {
+                bytes += estimateStringBytes(foldedSpanish[id]);
+            }
+        }
+        return bytes;
+    }
+    
+    private static long estimateStringBytes(String value) {
+        if (value == null) {
+            return 0;
+        }
+        int bytesPerChar = 1;
+        if (!COMPACT_STRINGS) {
+            bytesPerChar = 2;
+        } else {
+            for (int i = 0; i < value.length(); i++) {
+                if (value.charAt(i) > 0xFF) {
+                    bytesPerChar = 2;
+                    break;
+                }
+            }
+        }
+        return 24 + arrayBytes(value.length(), bytesPerChar);
+    }
+    
+    private static long arrayBytes(int length, int elementBytes) {
+        return (16 + (long) length * elementBytes + 7) & ~7L;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,328 @@
+package com.example.languagemod;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Typo-tolerant search over the English and Spanish translations of every key.
+ * <p>
+ * Built once from the translation store's folded forms, where each translation is a document. Every word
+ * start of every document is kept in a suffix array for prefix lookups, and every document is split into
+ * trigrams with a posting list per trigram; a fuzzy lookup scores documents by the Dice coefficient of
+ * their trigrams with the query's. Immutable once built, so it can be searched from any thread.
+ * <p>
+ * {@code VocabularySearchBenchmark} in the test sources times queries over the full vocabulary.
+ */
+public final class VocabularySearchIndex {
+    private static final Logger LOGGER = LogManager.getLogger();
+    private static final float EXACT_SCORE = 3.0f;
+    private static final float STARTS_WITH_SCORE = 2.5f;
+    private static final float WORD_PREFIX_SCORE = 2.0f;
+    // Trigram similarities below this are not worth showing
+    private static final float MIN_SIMILARITY = 0.3f;
+    private static volatile VocabularySearchIndex instance;
+    
+    private final TranslationStore translations;
+    // Word starts as (document << 16 | offset), sorted by the text from the offset on
+    private final long[] wordStarts;
+    // Distinct trigram codes in ascending order, the documents containing each, and each document's trigram count
+    private final long[] trigrams;
+    private final int[][] postings;
+    private final int[] trigramCounts;
+    
+    /**
+     * One search hit
+     */
+    public static class Match {
+        private final int id;
+        private final boolean spanish;
+        private final float score;
+        
+        private Match(int id, boolean spanish, float score) {
+            this.id = id;
+            this.spanish = spanish;
+            this.score = score;
+        }
+        
+        /**
+         * @return The translation key id
+         */
+        public int getId() {
+            return id;
+        }
+        
+        /**
+         * @return Whether the Spanish rather than the English translation matched
+         */
+        public boolean isSpanish() {
+            return spanish;
+        }
+        
+        /**
+         * @return 3 for an exact match, 2.5 if the translation starts with the query, 2 if one of its words does,
+         *         otherwise the trigram similarity between 0 and 1
+         */
+        public float getScore() {
+            return score;
+        }
+    }
+    
+    VocabularySearchIndex(TranslationStore translations) {
+        this.translations = translations;
+        int documents = translations.size() * 2;
+        
+        List<Long> starts = new ArrayList<>();
+        Map<Long, List<Integer>> trigramDocs = new HashMap<>();
+        trigramCounts = new int[documents];
+        for (int doc = 0; doc < documents; doc++) {
+            String text = getFolded(doc);
+            if (text == null) {
+                continue;
+            }
+            
+            for (int offset = 0; offset < text.length() && offset <= 0xFFFF; offset++) {
+                if (isWordStart(text, offset)) {
+                    starts.add((long) doc << 16 | offset);
+                }
+            }
+            for (long trigram : trigramsOf(text)) {
+                List<Integer> docs = trigramDocs.get(trigram);
+                if (docs == null) {
+                    docs = new ArrayList<>();
+                    trigramDocs.put(trigram, docs);
+                }
+                docs.add(doc);
+                trigramCounts[doc]++;
+            }
+        }
+        
+        Long[] sortedStarts = starts.toArray(new Long[0]);
+        Arrays.sort(sortedStarts, (a, b) -> compareSuffix(a, b));
+        wordStarts = new long[sortedStarts.length];
+        for (int i = 0; i < sortedStarts.length; i++) {
+            wordStarts[i] = sortedStarts[i];
+        }
+        
+        trigrams = new long[trigramDocs.size()];
+        int i = 0;
+        for (long trigram : trigramDocs.keySet()) {
+            trigrams[i++] = trigram;
+        }
+        Arrays.sort(trigrams);
+        postings = new int[trigrams.length][];
+        for (i = 0; i < trigrams.length; i++) {
+            List<Integer> docs = trigramDocs.get(trigrams[i]);
+            postings[i] = new int[docs.size()];
+            for (int j = 0; j < postings[i].length; j++) {
+                postings[i][j] = docs.get(j);
+            }
+        }
+    }
+    
+    /**
+     * Get the shared index, building it from the translation store on first use
+     */
+    public static VocabularySearchIndex getInstance() {
+        VocabularySearchIndex index = instance;
+        if (index == null) {
+            synchronized (VocabularySearchIndex.class) {
+                index = instance;
+                if (index == null) {
+                    long start = System.nanoTime();
+                    index = new VocabularySearchIndex(TranslationStore.getInstance());
+                    LOGGER.info("Built vocabulary search index ({} word starts, {} trigrams) in {} ms",
+                        index.wordStarts.length, index.trigrams.length, (System.nanoTime() - start) / 1_000_000);
+                    instance = index;
+                }
+            }
+        }
+        return index;
+    }
+    
+    /**
+     * Find the keys whose English or Spanish translation best matches the query, best first
+     * @param limit The most matches to return
+     */
+    public List<Match> search(String query, int limit) {
+        String folded = AnswerMatcher.normalize(query);
+        if (folded.isEmpty() || limit <= 0) {
+            return Collections.emptyList();
+        }
+        
+        int documents = trigramCounts.length;
+        float[] scores = new float[documents];
+        
+        // Fuzzy pass: count trigrams shared with the query, then turn the counts into Dice coefficients
+        long[] queryTrigrams = trigramsOf(folded);
+        int[] shared = new int[documents];
+        for (long trigram : queryTrigrams) {
+            int slot = Arrays.binarySearch(trigrams, trigram);
+            if (slot >= 0) {
+                for (int doc : postings[slot]) {
+                    shared[doc]++;
+                }
+            }
+        }
+        for (int doc = 0; doc < documents; doc++) {
+            if (shared[doc] > 0) {
+                float similarity = 2.0f * shared[doc] / (queryTrigrams.length + trigramCounts[doc]);
+                if (similarity >= MIN_SIMILARITY) {
+                    scores[doc] = similarity;
+                }
+            }
+        }
+        
+        // Prefix pass: every word start beginning with the query, which always outranks a fuzzy match
+        for (int i = lowerBound(folded); i < wordStarts.length && startsWith(wordStarts[i], folded); i++) {
+            int doc = (int) (wordStarts[i] >>> 16);
+            int offset = (int) (wordStarts[i] & 0xFFFF);
+            float score = offset > 0 ? WORD_PREFIX_SCORE
+                : getFolded(doc).length() == folded.length() ? EXACT_SCORE : STARTS_WITH_SCORE;
+            scores[doc] = Math.max(scores[doc], score);
+        }
+        
+        // Keep the best document per key, then the top matches by score, shorter translations first on ties
+        Match[] top = new Match[limit];
+        int count = 0;
+        for (int id = 0; id < documents / 2; id++) {
+            boolean spanish = scores[2 * id + 1] > scores[2 * id];
+            int doc = 2 * id + (spanish ? 1 : 0);
+            if (scores[doc] <= 0) {
+                continue;
+            }
+            Match match = new Match(id, spanish, scores[doc]);
+            if (count < limit) {
+                top[count++] = match;
+            } else if (ranksBefore(match, top[limit - 1])) {
+                top[limit - 1] = match;
+            } else {
+                continue;
+            }
+            for (int i = count - 1; i > 0 && ranksBefore(top[i], top[i - 1]); i--) {
+                Match swap = top[i];
+                top[i] = top[i - 1];
+                top[i - 1] = swap;
+            }
+        }
+        return Arrays.asList(Arrays.copyOf(top, count));
+    }
+    
+    /**
+     * Translations with a word starting with the given text, for command suggestions
+     * @param limit The most suggestions to return
+     */
+    public List<String> suggest(String prefix, int limit) {
+        String folded = AnswerMatcher.normalize(prefix);
+        Set<String> suggestions = new LinkedHashSet<>();
+        for (int i = lowerBound(folded); i < wordStarts.length && startsWith(wordStarts[i], folded)
+                && suggestions.size() < limit; i++) {
+            int doc = (int) (wordStarts[i] >>> 16);
+            suggestions.add((doc & 1) != 0 ? translations.getSpanish(doc >>> 1) : translations.getEnglish(doc >>> 1));
+        }
+        return new ArrayList<>(suggestions);
+    }
+    
+    public TranslationStore getTranslations() {
+        return translations;
+    }
+    
+    int getWordStartCount() {
+        return wordStarts.length;
+    }
+    
+    int getTrigramCount() {
+        return trigrams.length;
+    }
+    
+    private boolean ranksBefore(Match a, Match b) {
+        if (a.score != b.score) {
+            return a.score > b.score;
+        }
+        int lengthA = getFolded(2 * a.id + (a.spanish ? 1 : 0)).length();
+        int lengthB = getFolded(2 * b.id + (b.spanish ? 1 : 0)).length();
+        return lengthA != lengthB ? lengthA < lengthB : a.id < b.id;
+    }
+    
+    /**
+     * Documents are numbered 2 * id for English and 2 * id + 1 for Spanish
+     */
+    private String getFolded(int doc) {
+        return (doc & 1) != 0 ? translations.getFoldedSpanish(doc >>> 1) : translations.getFoldedEnglish(doc >>> 1);
+    }
+    
+    private static boolean isWordStart(String text, int offset) {
+        return Character.isLetterOrDigit(text.charAt(offset))
+            && (offset == 0 || !Character.isLetterOrDigit(text.charAt(offset - 1)));
+    }
+    
+    /**
+     * The distinct trigrams of a text padded with a space on each side, each packed into a long
+     */
+    private static long[] trigramsOf(String text) {
+        String padded = " " + text + " ";
+        long[] result = new long[Math.max(0, padded.length() - 2)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = (long) padded.charAt(i) << 32 | (long) padded.charAt(i + 1) << 16 | padded.charAt(i + 2);
+        }
+        Arrays.sort(result);
+        int distinct = 0;
+        for (int i = 0; i < result.length; i++) {
+            if (i == 0 || result[i] != result[i - 1]) {
+                result[distinct++] = result[i];
+            }
+        }
+        return Arrays.copyOf(result, distinct);
+    }
+    
+    private int compareSuffix(long a, long b) {
+        String textA = getFolded((int) (a >>> 16));
+        String textB = getFolded((int) (b >>> 16));
+        return compareRegion(textA, (int) (a & 0xFFFF), textB, (int) (b & 0xFFFF));
+    }
+    
+    /**
+     * Compare text from one offset with other text from another offset, like String.compareTo on the substrings
+     */
+    private static int compareRegion(String text, int offset, String other, int otherOffset) {
+        int length = Math.min(text.length() - offset, other.length() - otherOffset);
+        for (int i = 0; i < length; i++) {
+            char a = text.charAt(offset + i);
+            char b = other.charAt(otherOffset + i);
+            if (a != b) {
+                return a - b;
+            }
+        }
+        return (text.length() - offset) - (other.length() - otherOffset);
+    }
+    
+    /**
+     * @return The first word start whose text is not less than the query
+     */
+    private int lowerBound(String query) {
+        int low = 0;
+        int high = wordStarts.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long start = wordStarts[mid];
+            if (compareRegion(getFolded((int) (start >>> 16)), (int) (start & 0xFFFF), query, 0) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+    
+    private boolean startsWith(long start, String query) {
+        return getFolded((int) (start >>> 16)).startsWith(query, (int) (start & 0xFFFF));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,203 @@
+package com.example.languagemod;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Offline comparison of {@link AnswerMatcher} with the original full-matrix answer check, over the real
+ * en_us and es_mx vocabulary.
+ * <p>
+ * Every translation is answered three ways: exactly, with one or two typos, and with an unrelated word from
+ * the same language. Answers are generated from a fixed seed and the old and new single-answer checks must
+ * agree on every one. Matching against each card's full {@link AnswerVariants} set is timed alongside.
+ * <p>
+ * Usage: {@code AnswerMatcherBenchmark <resourcesDir> [rounds]}
+ */
+public class AnswerMatcherBenchmark {
+    private static final int WARMUP_ROUNDS = 5;
+    
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: AnswerMatcherBenchmark <resourcesDir> [rounds]");
+            System.exit(1);
+        }
+        File langDir = new File(args[0], "assets/languagemod/lang");
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        
+        List<String> expected = new ArrayList<>();
+        List<String> expectedKeys = new ArrayList<>();
+        Map<String, String> englishTranslations = readJsonFile(new File(langDir, "en_us.json"));
+        Map<String, String> spanishTranslations = readJsonFile(new File(langDir, "es_mx.json"));
+        int englishCount = englishTranslations.size();
+        for (Map<String, String> translations : Arrays.asList(englishTranslations, spanishTranslations)) {
+            for (Map.Entry<String, String> entry : translations.entrySet()) {
+                expectedKeys.add(entry.getKey());
+                expected.add(entry.getValue());
+            }
+        }
+        
+        Random random = new Random(42);
+        int count = expected.size() * 3;
+        String[] answers = new String[count];
+        String[] typed = new String[count];
+        AnswerMatcher[] singleMatchers = new AnswerMatcher[count];
+        AnswerMatcher[] variantMatchers = new AnswerMatcher[count];
+        boolean[] spanish = new boolean[count];
+        int variantCount = 0;
+        for (int i = 0; i < expected.size(); i++) {
+            String answer = expected.get(i);
+            typed[3 * i] = answer;
+            typed[3 * i + 1] = addTypos(answer, 1 + random.nextInt(2), random);
+            typed[3 * i + 2] = expected.get(random.nextInt(expected.size()));
+            List<String> variants = AnswerVariants.of(expectedKeys.get(i), AnswerMatcher.normalize(answer), i >= englishCount);
+            variantCount += variants.size();
+            for (int j = 3 * i; j < 3 * i + 3; j++) {
+                answers[j] = answer;
+                spanish[j] = i >= englishCount;
+                singleMatchers[j] = AnswerMatcher.forAnswer(answer);
+                variantMatchers[j] = AnswerMatcher.forFoldedAnswers(variants);
+            }
+        }
+        
+        boolean[] legacyResults = new boolean[count];
+        boolean[] matcherResults = new boolean[count];
+        boolean[] variantResults = new boolean[count];
+        long[][] times = new long[4][rounds];
+        for (int round = -WARMUP_ROUNDS; round < rounds; round++) {
+            long[] roundTimes = new long[4];
+            long start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                legacyResults[i] = legacyCheckAnswer(typed[i], answers[i]);
+            }
+            roundTimes[0] = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                // Built per answer, as each flashcard builds its own matcher when shown
+                matcherResults[i] = AnswerMatcher.forAnswer(answers[i]).matches(typed[i]);
+            }
+            roundTimes[1] = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                matcherResults[i] = singleMatchers[i].matches(typed[i]);
+            }
+            roundTimes[2] = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            for (int i = 0; i < count; i++) {
+                variantResults[i] = variantMatchers[i].matches(AnswerVariants.stripArticle(typed[i], spanish[i]));
+            }
+            roundTimes[3] = System.nanoTime() - start;
+            
+            if (round >= 0) {
+                for (int t = 0; t < roundTimes.length; t++) {
+                    times[t][round] = roundTimes[t];
+                }
+            }
+        }
+        
+        int accepted = 0;
+        int variantAccepted = 0;
+        for (int i = 0; i < count; i++) {
+            if (legacyResults[i] != matcherResults[i]) {
+                System.err.println("Mismatch for \"" + typed[i] + "\" against \"" + answers[i] + "\": legacy " + legacyResults[i]);
+                System.exit(1);
+            }
+            if (matcherResults[i]) {
+                accepted++;
+            }
+            if (variantResults[i]) {
+                variantAccepted++;
+            }
+        }
+        
+        String[] names = {"legacy full matrix", "AnswerMatcher, built per check", "AnswerMatcher, prebuilt", "answer variants, prebuilt"};
+        System.out.printf("%d answers checked per round, %.2f variants per card, median of %d rounds%n",
+            count, variantCount / (double) expected.size(), rounds);
+        System.out.printf("accepted: %d with the single answer, %d with answer variants%n", accepted, variantAccepted);
+        for (int t = 0; t < names.length; t++) {
+            Arrays.sort(times[t]);
+            System.out.printf("%-32s %8.1f ns/answer%n", names[t] + ":", times[t][rounds / 2] / (double) count);
+        }
+    }
+    
+    static Map<String, String> readJsonFile(File file) throws IOException {
+        Map<String, String> translations = new HashMap<>();
+        try (Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
+            TranslationStore.readTranslations(reader, translations);
+        }
+        return translations;
+    }
+    
+    static String addTypos(String answer, int typos, Random random) {
+        StringBuilder typed = new StringBuilder(answer);
+        for (int i = 0; i < typos; i++) {
+            int position = random.nextInt(typed.length() + 1);
+            char letter = (char) ('a' + random.nextInt(26));
+            switch (typed.length() == 0 ? 0 : random.nextInt(3)) {
+                case 0:
+                    typed.insert(position, letter);
+                    break;
+                case 1:
+                    typed.deleteCharAt(Math.min(position, typed.length() - 1));
+                    break;
+                default:
+                    typed.setCharAt(Math.min(position, typed.length() - 1), letter);
+                    break;
+            }
+        }
+        return typed.toString();
+    }
+    
+    /**
+     * The answer check FlashcardManager used before AnswerMatcher, kept as the baseline
+     */
+    private static boolean legacyCheckAnswer(String userAnswer, String correctAnswer) {
+        String normalizedUser = legacyNormalize(userAnswer);
+        String normalizedCorrect = legacyNormalize(correctAnswer);
+        if (normalizedUser.equalsIgnoreCase(normalizedCorrect)) {
+            return true;
+        }
+        int distance = legacyDistance(normalizedUser.toLowerCase(), normalizedCorrect.toLowerCase());
+        int maxAllowedDistance = Math.max(2, (int) (normalizedCorrect.length() * 0.15));
+        return distance <= maxAllowedDistance;
+    }
+    
+    private static String legacyNormalize(String input) {
+        String normalized = Normalizer.normalize(input, Normalizer.Form.NFD);
+        normalized = normalized.replaceAll("[\\p{InCombiningDiacriticalMarks}]", "");
+        return normalized.trim();
+    }
+    
+    private static int legacyDistance(String s1, String s2) {
+        int[][] dp = new int[s1.length() + 1][s2.length() + 1];
+        for (int i = 0; i <= s1.length(); i++) {
+            dp[i][0] = i;
+        }
+        for (int j = 0; j <= s2.length(); j++) {
+            dp[0][j] = j;
+        }
+        for (int i = 1; i <= s1.length(); i++) {
+            for (int j = 1; j <= s2.length(); j++) {
+                if (s1.charAt(i - 1) == s2.charAt(j - 1)) {
+                    dp[i][j] = dp[i - 1][j - 1];
+                } else {
+                    dp[i][j] = 1 + Math.min(dp[i - 1][j - 1], Math.min(dp[i - 1][j], dp[i][j - 1]));
+                }
+            }
+        }
+        return dp[s1.length()][s2.length()];
+    }
+}
\ No newline at end of file
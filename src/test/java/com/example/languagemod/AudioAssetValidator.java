@@ -0,0 +1,488 @@
+package com.example.languagemod;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Offline check that the lang files, sounds.json and the OGG files under sounds/ agree.
+ * <p>
+ * Every OGG file is read and its pages walked on a fork-join pool: page framing and CRCs are verified and
+ * the codec, channel count, sample rate and duration come from the identification header and the last
+ * granule position. Files Minecraft cannot decode are errors; stereo, long or oversized files, which cost
+ * download size and decoded memory, are warnings. The cross-check lists sound events whose file is missing,
+ * files no sound event uses, and translation keys without a sound or the other way round. A JSON report is
+ * written, and the exit status is 1 if any error was found.
+ * <p>
+ * Usage: {@code AudioAssetValidator <resourcesDir> [reportFile] [--threads N]}
+ */
+public class AudioAssetValidator {
+    private static final String NAMESPACE = "languagemod";
+    private static final String SOUND_PREFIX = "es_mx.";
+    private static final int MAX_FILE_BYTES = 16 * 1024;
+    private static final double MAX_DURATION_SECONDS = 4.0;
+    // Plenty for speech; higher rates only make the decoded buffer bigger
+    private static final int MAX_SAMPLE_RATE = 24000;
+    // Opus granule positions always count 48 kHz samples, whatever the input rate was
+    private static final int OPUS_GRANULE_RATE = 48000;
+    // Files per fork-join leaf
+    private static final int FILES_PER_TASK = 16;
+    private static final int[] CRC_TABLE = new int[256];
+    
+    static {
+        // Ogg's CRC-32: polynomial 0x04C11DB7, not reflected, zero initial value and no final xor
+        for (int i = 0; i < 256; i++) {
+            int crc = i << 24;
+            for (int bit = 0; bit < 8; bit++) {
+                crc = (crc & 0x80000000) != 0 ? (crc << 1) ^ 0x04C11DB7 : crc << 1;
+            }
+            CRC_TABLE[i] = crc;
+        }
+    }
+    
+    /**
+     * What was found in one OGG file
+     */
+    static class OggInfo {
+        final String path;
+        final long bytes;
+        String codec = "unknown";
+        int channels;
+        int sampleRate;
+        int pages;
+        double durationSeconds;
+        boolean referenced;
+        final List<String> errors = new ArrayList<>();
+        final List<String> warnings = new ArrayList<>();
+        
+        OggInfo(String path, long bytes) {
+            this.path = path;
+            this.bytes = bytes;
+        }
+    }
+    
+    /**
+     * Inspects a range of files, splitting until each task holds a handful
+     */
+    private static class InspectTask extends RecursiveAction {
+        private final File soundsDir;
+        private final String[] paths;
+        private final OggInfo[] results;
+        private final int from;
+        private final int to;
+        
+        InspectTask(File soundsDir, String[] paths, OggInfo[] results, int from, int to) {
+            this.soundsDir = soundsDir;
+            this.paths = paths;
+            this.results = results;
+            this.from = from;
+            this.to = to;
+        }
+        
+        @Override
+        protected void compute() {
+            if (to - from > FILES_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new InspectTask(soundsDir, paths, results, from, middle),
+                    new InspectTask(soundsDir, paths, results, middle, to));
+                return;
+            }
+            for (int i = from; i < to; i++) {
+                File file = new File(soundsDir, paths[i]);
+                try {
+                    results[i] = inspect(paths[i], Files.readAllBytes(file.toPath()));
+                } catch (IOException e) {
+                    results[i] = new OggInfo(paths[i], file.length());
+                    results[i].errors.add("Unreadable: " + e.getMessage());
+                }
+            }
+        }
+    }
+    
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Usage: AudioAssetValidator <resourcesDir> [reportFile] [--threads N]");
+            System.exit(1);
+        }
+        int threads = Runtime.getRuntime().availableProcessors();
+        List<String> positional = new ArrayList<>();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("--threads") && i + 1 < args.length) {
+                threads = Math.max(1, Integer.parseInt(args[++i]));
+            } else {
+                positional.add(args[i]);
+            }
+        }
+        File assetsDir = new File(positional.get(0), "assets/" + NAMESPACE);
+        File report = new File(positional.size() > 1 ? positional.get(1) : "audio-report.json");
+        File soundsDir = new File(assetsDir, "sounds");
+        
+        long start = System.nanoTime();
+        Map<String, String> english = readLang(new File(assetsDir, "lang/en_us.json"));
+        Map<String, String> spanish = readLang(new File(assetsDir, "lang/es_mx.json"));
+        Map<String, List<String>> soundEvents = readSoundEvents(new File(assetsDir, "sounds.json"));
+        String[] paths = listOggFiles(soundsDir);
+        
+        OggInfo[] files = new OggInfo[paths.length];
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            pool.invoke(new InspectTask(soundsDir, paths, files, 0, paths.length));
+        } finally {
+            pool.shutdown();
+        }
+        Map<String, OggInfo> filesByPath = new HashMap<>();
+        for (OggInfo info : files) {
+            filesByPath.put(info.path, info);
+        }
+        
+        // sounds.json against the files on disk
+        Map<String, String> missingFiles = new TreeMap<>();
+        for (Map.Entry<String, List<String>> event : soundEvents.entrySet()) {
+            for (String path : event.getValue()) {
+                OggInfo info = filesByPath.get(path);
+                if (info != null) {
+                    info.referenced = true;
+                } else {
+                    missingFiles.put(event.getKey(), path);
+                }
+            }
+        }
+        List<String> orphanedFiles = new ArrayList<>();
+        long orphanedBytes = 0;
+        for (OggInfo info : files) {
+            if (!info.referenced) {
+                orphanedFiles.add(info.path);
+                orphanedBytes += info.bytes;
+            }
+        }
+        
+        // sounds.json against the lang files
+        TreeSet<String> langKeys = new TreeSet<>(english.keySet());
+        langKeys.addAll(spanish.keySet());
+        TreeSet<String> soundKeys = new TreeSet<>();
+        List<String> unexpectedEvents = new ArrayList<>();
+        for (String event : soundEvents.keySet()) {
+            if (event.startsWith(SOUND_PREFIX)) {
+                soundKeys.add(event.substring(SOUND_PREFIX.length()));
+            } else {
+                unexpectedEvents.add(event);
+            }
+        }
+        TreeSet<String> soundsWithoutTranslation = new TreeSet<>(soundKeys);
+        soundsWithoutTranslation.removeAll(langKeys);
+        TreeSet<String> translationsWithoutSound = new TreeSet<>(langKeys);
+        translationsWithoutSound.removeAll(soundKeys);
+        TreeSet<String> missingEnglish = new TreeSet<>(spanish.keySet());
+        missingEnglish.removeAll(english.keySet());
+        TreeSet<String> missingSpanish = new TreeSet<>(english.keySet());
+        missingSpanish.removeAll(spanish.keySet());
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+        
+        int errorCount = missingFiles.size();
+        int warningCount = orphanedFiles.size() + soundsWithoutTranslation.size() + unexpectedEvents.size();
+        long totalBytes = 0;
+        double totalSeconds = 0;
+        Map<String, Integer> codecs = new TreeMap<>();
+        for (OggInfo info : files) {
+            errorCount += info.errors.size();
+            warningCount += info.warnings.size();
+            totalBytes += info.bytes;
+            totalSeconds += info.durationSeconds;
+            codecs.merge(info.codec, 1, Integer::sum);
+        }
+        
+        List<OggInfo> bySize = new ArrayList<>(Arrays.asList(files));
+        bySize.sort(Comparator.comparingLong((OggInfo info) -> info.bytes).reversed());
+        File parent = report.getAbsoluteFile().getParentFile();
+        if (parent != null) {
+            parent.mkdirs();
+        }
+        try (Writer out = new OutputStreamWriter(new FileOutputStream(report), StandardCharsets.UTF_8);
+             JsonWriter json = new JsonWriter(out)) {
+            json.setIndent("  ");
+            json.beginObject();
+            json.name("summary").beginObject();
+            json.name("englishKeys").value(english.size());
+            json.name("spanishKeys").value(spanish.size());
+            json.name("soundEvents").value(soundEvents.size());
+            json.name("oggFiles").value(files.length);
+            json.name("totalBytes").value(totalBytes);
+            json.name("orphanedBytes").value(orphanedBytes);
+            json.name("totalDurationSeconds").value(round(totalSeconds));
+            json.name("codecs").beginObject();
+            for (Map.Entry<String, Integer> codec : codecs.entrySet()) {
+                json.name(codec.getKey()).value(codec.getValue());
+            }
+            json.endObject();
+            json.name("errors").value(errorCount);
+            json.name("warnings").value(warningCount);
+            json.name("threads").value(threads);
+            json.name("elapsedMillis").value(elapsedMillis);
+            json.endObject();
+            
+            json.name("missingFiles").beginObject();
+            for (Map.Entry<String, String> missing : missingFiles.entrySet()) {
+                json.name(missing.getKey()).value(missing.getValue());
+            }
+            json.endObject();
+            writeList(json, "orphanedFiles", orphanedFiles);
+            writeList(json, "soundsWithoutTranslation", soundsWithoutTranslation);
+            writeList(json, "translationsWithoutSound", translationsWithoutSound);
+            writeList(json, "unexpectedSoundEvents", unexpectedEvents);
+            writeList(json, "missingEnglish", missingEnglish);
+            writeList(json, "missingSpanish", missingSpanish);
+            
+            // Largest first, since those are the ones worth re-encoding
+            json.name("files").beginArray();
+            for (OggInfo info : bySize) {
+                json.beginObject();
+                json.name("path").value(info.path);
+                json.name("bytes").value(info.bytes);
+                json.name("codec").value(info.codec);
+                json.name("channels").value(info.channels);
+                json.name("sampleRate").value(info.sampleRate);
+                json.name("durationSeconds").value(round(info.durationSeconds));
+                json.name("pages").value(info.pages);
+                json.name("referenced").value(info.referenced);
+                writeList(json, "errors", info.errors);
+                writeList(json, "warnings", info.warnings);
+                json.endObject();
+            }
+            json.endArray();
+            json.endObject();
+        }
+        
+        System.out.printf("Checked %d OGG files (%d KB, %.1f s of audio), %d sound events and %d lang keys in %d ms on %d threads%n",
+            files.length, totalBytes / 1024, totalSeconds, soundEvents.size(), langKeys.size(), elapsedMillis, threads);
+        System.out.println("Codecs: " + codecs);
+        System.out.printf("Missing files: %d, orphaned files: %d (%d KB), sounds without translation: %d, translations without sound: %d%n",
+            missingFiles.size(), orphanedFiles.size(), orphanedBytes / 1024, soundsWithoutTranslation.size(), translationsWithoutSound.size());
+        System.out.println(errorCount + " errors, " + warningCount + " warnings; report written to " + report);
+        if (errorCount > 0) {
+            System.exit(1);
+        }
+    }
+    
+    /**
+     * Walk the pages of an Ogg stream and read its identification header
+     */
+    static OggInfo inspect(String path, byte[] data) {
+        OggInfo info = new OggInfo(path, data.length);
+        int pos = 0;
+        long serial = 0;
+        long lastGranule = -1;
+        int preSkip = 0;
+        boolean endOfStream = false;
+        while (pos < data.length) {
+            if (data.length - pos < 27 || data[pos] != 'O' || data[pos + 1] != 'g' || data[pos + 2] != 'g' || data[pos + 3] != 'S') {
+                info.errors.add((info.pages == 0 ? "Not an Ogg file" : "Truncated or corrupt page") + " at byte " + pos);
+                break;
+            }
+            int segments = data[pos + 26] & 0xFF;
+            int headerLength = 27 + segments;
+            if (pos + headerLength > data.length) {
+                info.errors.add("Truncated page header at byte " + pos);
+                break;
+            }
+            int bodyLength = 0;
+            for (int i = 0; i < segments; i++) {
+                bodyLength += data[pos + 27 + i] & 0xFF;
+            }
+            if (pos + headerLength + bodyLength > data.length) {
+                info.errors.add("Truncated page at byte " + pos);
+                break;
+            }
+            if (crc(data, pos, headerLength + bodyLength) != readInt(data, pos + 22)) {
+                info.errors.add("CRC mismatch in page " + info.pages);
+            }
+            
+            int flags = data[pos + 5];
+            long granule = readLong(data, pos + 6);
+            long pageSerial = readInt(data, pos + 14) & 0xFFFFFFFFL;
+            if (info.pages == 0) {
+                serial = pageSerial;
+                if ((flags & 0x02) == 0) {
+                    info.errors.add("First page is not marked as the start of a stream");
+                }
+                // The identification header is the first packet, which ends at the first segment under 255 bytes
+                int packetLength = 0;
+                for (int i = 0; i < segments; i++) {
+                    int lacing = data[pos + 27 + i] & 0xFF;
+                    packetLength += lacing;
+                    if (lacing < 255) {
+                        break;
+                    }
+                }
+                preSkip = readIdentification(info, data, pos + headerLength, packetLength);
+            } else if (pageSerial != serial) {
+                info.errors.add("More than one logical stream");
+                break;
+            }
+            if (granule != -1) {
+                lastGranule = granule;
+            }
+            endOfStream |= (flags & 0x04) != 0;
+            info.pages++;
+            pos += headerLength + bodyLength;
+        }
+        if (info.pages > 0 && info.errors.isEmpty() && !endOfStream) {
+            info.warnings.add("No end-of-stream page");
+        }
+        
+        if (lastGranule > 0) {
+            if (info.codec.equals("opus")) {
+                info.durationSeconds = Math.max(0, lastGranule - preSkip) / (double) OPUS_GRANULE_RATE;
+            } else if (info.codec.equals("vorbis") && info.sampleRate > 0) {
+                info.durationSeconds = lastGranule / (double) info.sampleRate;
+            }
+        }
+        if (info.channels > 1) {
+            info.warnings.add(info.channels + " channels: stereo doubles the size and is never positioned in the world");
+        }
+        if (info.bytes > MAX_FILE_BYTES) {
+            info.warnings.add("Larger than " + MAX_FILE_BYTES / 1024 + " KB");
+        }
+        if (info.durationSeconds > MAX_DURATION_SECONDS) {
+            info.warnings.add(String.format(Locale.ROOT, "Longer than %.0f s", MAX_DURATION_SECONDS));
+        }
+        if (info.codec.equals("vorbis") && info.sampleRate > MAX_SAMPLE_RATE) {
+            info.warnings.add("Sample rate above " + MAX_SAMPLE_RATE + " Hz");
+        }
+        return info;
+    }
+    
+    /**
+     * Fill in the codec, channels and sample rate from a Vorbis or Opus identification header
+     * @return The Opus pre-skip in samples, or 0
+     */
+    private static int readIdentification(OggInfo info, byte[] data, int offset, int length) {
+        if (length >= 30 && data[offset] == 1 && new String(data, offset + 1, 6, StandardCharsets.US_ASCII).equals("vorbis")) {
+            info.codec = "vorbis";
+            info.channels = data[offset + 11] & 0xFF;
+            info.sampleRate = readInt(data, offset + 12);
+            return 0;
+        }
+        if (length >= 19 && new String(data, offset, 8, StandardCharsets.US_ASCII).equals("OpusHead")) {
+            info.codec = "opus";
+            info.channels = data[offset + 9] & 0xFF;
+            // The rate the audio was encoded from; Opus itself always decodes at 48 kHz
+            info.sampleRate = readInt(data, offset + 12);
+            info.errors.add("Opus audio: Minecraft only decodes Ogg Vorbis, so this file cannot be played");
+            return (data[offset + 10] & 0xFF) | (data[offset + 11] & 0xFF) << 8;
+        }
+        info.errors.add("Unknown codec in the identification header");
+        return 0;
+    }
+    
+    /**
+     * Page CRC, computed with the page's own checksum field taken as zero
+     */
+    private static int crc(byte[] data, int offset, int length) {
+        int crc = 0;
+        for (int i = 0; i < length; i++) {
+            int b = i >= 22 && i < 26 ? 0 : data[offset + i] & 0xFF;
+            crc = (crc << 8) ^ CRC_TABLE[((crc >>> 24) ^ b) & 0xFF];
+        }
+        return crc;
+    }
+    
+    private static int readInt(byte[] data, int offset) {
+        return (data[offset] & 0xFF) | (data[offset + 1] & 0xFF) << 8 | (data[offset + 2] & 0xFF) << 16 | (data[offset + 3] & 0xFF) << 24;
+    }
+    
+    private static long readLong(byte[] data, int offset) {
+        return (readInt(data, offset) & 0xFFFFFFFFL) | (long) readInt(data, offset + 4) << 32;
+    }
+    
+    private static double round(double seconds) {
+        return Math.round(seconds * 1000) / 1000.0;
+    }
+    
+    private static void writeList(JsonWriter json, String name, Iterable<String> values) throws IOException {
+        json.name(name).beginArray();
+        for (String value : values) {
+            json.value(value);
+        }
+        json.endArray();
+    }
+    
+    private static Map<String, String> readLang(File file) throws IOException {
+        Map<String, String> translations = new HashMap<>();
+        try (Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
+            TranslationStore.readTranslations(reader, translations);
+        }
+        return translations;
+    }
+    
+    /**
+     * @return Each sound event's OGG files relative to the sounds directory; files in other namespaces and
+     *         entries that point at other events are left out
+     */
+    private static Map<String, List<String>> readSoundEvents(File file) throws IOException {
+        Map<String, List<String>> events = new TreeMap<>();
+        try (Reader reader = new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8)) {
+            JsonObject root = new JsonParser().parse(reader).getAsJsonObject();
+            for (Map.Entry<String, JsonElement> event : root.entrySet()) {
+                List<String> paths = new ArrayList<>();
+                JsonObject definition = event.getValue().getAsJsonObject();
+                if (definition.has("sounds")) {
+                    for (JsonElement sound : definition.getAsJsonArray("sounds")) {
+                        String name;
+                        if (sound.isJsonObject()) {
+                            JsonObject soundObject = sound.getAsJsonObject();
+                            if (soundObject.has("type") && soundObject.get("type").getAsString().equals("event")) {
+                                continue;
+                            }
+                            name = soundObject.get("name").getAsString();
+                        } else {
+                            name = sound.getAsString();
+                        }
+                        int colon = name.indexOf(':');
+                        if (colon < 0 || name.substring(0, colon).equals(NAMESPACE)) {
+                            paths.add(name.substring(colon + 1) + ".ogg");
+                        }
+                    }
+                }
+                events.put(event.getKey(), paths);
+            }
+        }
+        return events;
+    }
+    
+    private static String[] listOggFiles(File soundsDir) throws IOException {
+        Path root = soundsDir.toPath();
+        try (Stream<Path> walk = Files.walk(root)) {
+            return walk.filter(path -> path.toString().endsWith(".ogg"))
+                .map(path -> root.relativize(path).toString().replace(File.separatorChar, '/'))
+                .sorted()
+                .collect(Collectors.toList())
+                .toArray(new String[0]);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,71 @@
+package com.example.languagemod;
+
+import net.minecraft.client.audio.AbstractSound;
+import net.minecraft.client.audio.ISound;
+import net.minecraft.client.audio.Sound;
+import net.minecraft.util.ResourceLocation;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that the playback speed chosen with /slow reaches the pitch of the sound that gets played
+ */
+public class AudioManagerTest {
+    private static final ResourceLocation LOCATION = new ResourceLocation("languagemod", "block.minecraft.stone");
+    
+    @Test
+    public void uiSoundUsesSpeedAsPitch() {
+        ISound sound = resolve(AudioManager.createSound(LOCATION, 0.75f, AudioManager.PlaybackMode.UI, 1, 2, 3));
+        
+        assertEquals(0.75f, sound.getPitch(), 0.0f);
+        assertEquals(ISound.AttenuationType.NONE, sound.getAttenuation());
+        assertTrue(sound.isRelative());
+        assertEquals(0.0D, sound.getX(), 0.0D);
+    }
+    
+    @Test
+    public void localSoundUsesSpeedAsPitchAtPosition() {
+        ISound sound = resolve(AudioManager.createSound(LOCATION, 1.5f, AudioManager.PlaybackMode.LOCAL, 1, 2, 3));
+        
+        assertEquals(1.5f, sound.getPitch(), 0.0f);
+        assertEquals(ISound.AttenuationType.LINEAR, sound.getAttenuation());
+        assertFalse(sound.isRelative());
+        assertEquals(3.0D, sound.getZ(), 0.0D);
+    }
+    
+    @Test
+    public void speedIsClampedToTheEnginePitchRange() {
+        AudioManager audio = new AudioManager();
+        
+        audio.setPlaybackSpeed(0.1f);
+        ISound slowest = resolve(AudioManager.createSound(LOCATION, audio.getPlaybackSpeed(), audio.getPlaybackMode(), 0, 0, 0));
+        audio.setPlaybackSpeed(5.0f);
+        ISound fastest = resolve(AudioManager.createSound(LOCATION, audio.getPlaybackSpeed(), audio.getPlaybackMode(), 0, 0, 0));
+        
+        assertEquals(AudioManager.MIN_PLAYBACK_SPEED, slowest.getPitch(), 0.0f);
+        assertEquals(AudioManager.MAX_PLAYBACK_SPEED, fastest.getPitch(), 0.0f);
+    }
+    
+    /**
+     * The pitch is multiplied by the resolved sounds.json entry's own pitch, so give it a neutral one without
+     * starting a sound engine. The field is found by type, like AudioPrefetcher does.
+     */
+    private static ISound resolve(ISound sound) {
+        try {
+            for (Field field : AbstractSound.class.getDeclaredFields()) {
+                if (field.getType() == Sound.class) {
+                    field.setAccessible(true);
+                    field.set(sound, new Sound(LOCATION.toString(), 1.0f, 1.0f, 1, Sound.Type.FILE, false, false, 16));
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new AssertionError(e);
+        }
+        return sound;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,181 @@
+package com.example.languagemod;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Offline comparison of flashcard schedulers against a synthetic learner.
+ * <p>
+ * Each simulated learner plays one session a day, discovers new words during it and is shown a review card
+ * every few minutes, like the in-game flashcard timer. Memory follows an exponential forgetting curve whose
+ * stability grows with each successful recall (more so for harder recalls) and shrinks after a lapse.
+ * Runs are seeded, so two runs with the same arguments print the same numbers.
+ * <p>
+ * Usage: {@code ReviewSimulation [learners] [days] [newWordsPerDay] [reviewEveryMinutes] [seed]}
+ */
+public class ReviewSimulation {
+    private static final int SESSION_MINUTES = 60;
+    private static final long SESSION_START = 18 * 60 * ReviewScheduler.MINUTE_MILLIS;
+    private static final int LEGACY_MASTERY_CORRECT = 5;
+    
+    /**
+     * Chooses which card to show at each review slot
+     */
+    private interface Policy {
+        void discovered(int id, long now);
+        
+        /**
+         * @return The card to show, or -1 to skip this slot
+         */
+        int next(long now);
+        
+        void answered(int id, boolean correct, long now);
+    }
+    
+    /**
+     * The original selection: uniform among discovered cards until five correct answers master them
+     */
+    private static class LegacyRandomPolicy implements Policy {
+        private final ProgressStore store;
+        private final Random random;
+        
+        LegacyRandomPolicy(int cards, Random random) {
+            ProgressCategory[] categories = new ProgressCategory[cards];
+            Arrays.fill(categories, ProgressCategory.OTHER);
+            this.store = new ProgressStore(categories);
+            this.random = random;
+        }
+        
+        @Override
+        public void discovered(int id, long now) {
+            store.markDiscovered(id, now);
+        }
+        
+        @Override
+        public int next(long now) {
+            return store.pickEligible(random);
+        }
+        
+        @Override
+        public void answered(int id, boolean correct, long now) {
+            if (store.recordAttempt(id, correct, now) >= LEGACY_MASTERY_CORRECT) {
+                store.markMastered(id);
+            }
+        }
+    }
+    
+    private static class Sm2Policy implements Policy {
+        private final ReviewScheduler scheduler;
+        
+        Sm2Policy(int cards) {
+            this.scheduler = new ReviewScheduler(cards);
+        }
+        
+        @Override
+        public void discovered(int id, long now) {
+            scheduler.add(id, now);
+        }
+        
+        @Override
+        public int next(long now) {
+            return scheduler.peekDue(now);
+        }
+        
+        @Override
+        public void answered(int id, boolean correct, long now) {
+            scheduler.review(id, correct, now);
+        }
+    }
+    
+    private static class Result {
+        long reviews;
+        double retention;
+    }
+    
+    public static void main(String[] args) {
+        int learners = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        int days = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        int newCardsPerDay = args.length > 2 ? Integer.parseInt(args[2]) : 10;
+        int reviewEveryMinutes = args.length > 3 ? Integer.parseInt(args[3]) : 5;
+        long seed = args.length > 4 ? Long.parseLong(args[4]) : 42;
+        
+        String[] names = {"legacy random", "SM-2"};
+        Result[] totals = {new Result(), new Result()};
+        for (int learner = 0; learner < learners; learner++) {
+            for (int policy = 0; policy < names.length; policy++) {
+                // Same learner and answer rolls for both schedulers
+                Random random = new Random(seed + learner);
+                int cards = newCardsPerDay * days;
+                Policy scheduler = policy == 0 ? new LegacyRandomPolicy(cards, new Random(seed - learner)) : new Sm2Policy(cards);
+                Result result = simulate(scheduler, cards, days, newCardsPerDay, reviewEveryMinutes, random);
+                totals[policy].reviews += result.reviews;
+                totals[policy].retention += result.retention;
+            }
+        }
+        
+        System.out.printf("%d learners x %d daily sessions, %d new words a day, a review every %d minutes%n",
+            learners, days, newCardsPerDay, reviewEveryMinutes);
+        System.out.printf("%-14s %16s %22s %22s%n", "scheduler", "reviews/learner", "retention after 1 day", "retention per 100 rev");
+        for (int policy = 0; policy < names.length; policy++) {
+            double reviews = totals[policy].reviews / (double) learners;
+            double retention = totals[policy].retention / learners;
+            System.out.printf("%-14s %16.1f %21.1f%% %21.2f%%%n", names[policy], reviews, retention * 100, retention * 100 / reviews * 100);
+        }
+    }
+    
+    private static Result simulate(Policy policy, int cards, int days, int newCardsPerDay, int reviewEveryMinutes, Random random) {
+        double[] stability = new double[cards];
+        long[] lastSeen = new long[cards];
+        double[] difficulty = new double[cards];
+        for (int id = 0; id < cards; id++) {
+            difficulty[id] = 0.5 + random.nextDouble();
+        }
+        
+        Result result = new Result();
+        int discovered = 0;
+        int discoverEvery = Math.max(1, SESSION_MINUTES / newCardsPerDay);
+        for (int day = 0; day < days; day++) {
+            long sessionStart = day * ReviewScheduler.DAY_MILLIS + SESSION_START;
+            for (int minute = 0; minute < SESSION_MINUTES; minute++) {
+                long now = sessionStart + minute * ReviewScheduler.MINUTE_MILLIS;
+                if (minute % discoverEvery == 0 && discovered < cards) {
+                    // A newly discovered word is shown right away, like the in-game discovery card
+                    int id = discovered++;
+                    stability[id] = 1.5 / difficulty[id];
+                    lastSeen[id] = now;
+                    policy.discovered(id, now);
+                    policy.answered(id, random.nextBoolean(), now);
+                    result.reviews++;
+                }
+                if (minute % reviewEveryMinutes == 0) {
+                    int id = policy.next(now);
+                    if (id >= 0) {
+                        double recall = recall(stability[id], now - lastSeen[id]);
+                        boolean correct = random.nextDouble() < recall;
+                        stability[id] = correct
+                            ? stability[id] * (1 + 15.0 * (1 - recall) / difficulty[id])
+                            : Math.max(0.5, stability[id] * 0.4);
+                        lastSeen[id] = now;
+                        policy.answered(id, correct, now);
+                        result.reviews++;
+                    }
+                }
+            }
+        }
+        
+        long end = days * ReviewScheduler.DAY_MILLIS + SESSION_START;
+        double total = 0;
+        for (int id = 0; id < discovered; id++) {
+            total += recall(stability[id], end - lastSeen[id]);
+        }
+        result.retention = discovered > 0 ? total / discovered : 0;
+        return result;
+    }
+    
+    /**
+     * Probability of recalling a card after the given time, with stability measured in days
+     */
+    private static double recall(double stability, long elapsedMillis) {
+        return Math.exp(-elapsedMillis / (double) ReviewScheduler.DAY_MILLIS / stability);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.example.languagemod;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Offline comparison of parsing both lang files against reading the compiled {@link TranslationBundle}.
+ * The first iteration of each path is reported separately as the cold load.
+ * <p>
+ * Usage: {@code TranslationBundleBenchmark <resourcesDir> [iterations]}
+ */
+public class TranslationBundleBenchmark {
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: TranslationBundleBenchmark <resourcesDir> [iterations]");
+            System.exit(1);
+        }
+        File assetsDir = new File(args[0], "assets/languagemod");
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+        byte[] english = Files.readAllBytes(new File(assetsDir, "lang/en_us.json").toPath());
+        byte[] spanish = Files.readAllBytes(new File(assetsDir, "lang/es_mx.json").toPath());
+        byte[] bundle = Files.readAllBytes(new File(args[0], TranslationBundle.BUNDLE_RESOURCE.substring(1)).toPath());
+        
+        long[] jsonTimes = new long[iterations];
+        long[] bundleTimes = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            Map<String, String> en = new HashMap<>();
+            Map<String, String> es = new HashMap<>();
+            TranslationStore.readTranslations(new InputStreamReader(new ByteArrayInputStream(english), StandardCharsets.UTF_8), en);
+            TranslationStore.readTranslations(new InputStreamReader(new ByteArrayInputStream(spanish), StandardCharsets.UTF_8), es);
+            TranslationStore.create(en, es);
+            jsonTimes[i] = System.nanoTime() - start;
+            
+            start = System.nanoTime();
+            TranslationBundle.read(bundle, -1);
+            bundleTimes[i] = System.nanoTime() - start;
+        }
+        
+        System.out.printf("JSON:   cold %.2f ms, warm median %.3f ms%n", jsonTimes[0] / 1e6, median(jsonTimes) / 1e6);
+        System.out.printf("Bundle: cold %.2f ms, warm median %.3f ms%n", bundleTimes[0] / 1e6, median(bundleTimes) / 1e6);
+    }
+    
+    private static long median(long[] times) {
+        long[] sorted = times.clone();
+        Arrays.sort(sorted, 1, sorted.length);
+        return sorted[1 + (sorted.length - 1) / 2];
+    }
+}
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.example.languagemod;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the retained heap of the shared store against the layout it replaced, where LanguageDisplayMod and
+ * ProgressManager each parsed both lang files into their own HashMaps
+ */
+public class TranslationStoreTest {
+    // Several copies of each layout are measured at once so a single GC's noise is spread over them
+    private static final int COPIES = 10;
+    
+    @Test
+    public void storeRetainsWellUnderTheFourMapLayout() throws Exception {
+        TranslationStore.load();
+        
+        long before = usedHeap();
+        Object[] maps = new Object[COPIES];
+        for (int i = 0; i < COPIES; i++) {
+            maps[i] = new Object[] {readLangFile(TranslationStore.EN_US_RESOURCE), readLangFile(TranslationStore.ES_MX_RESOURCE),
+                readLangFile(TranslationStore.EN_US_RESOURCE), readLangFile(TranslationStore.ES_MX_RESOURCE)};
+        }
+        long mapBytes = (usedHeap() - before) / COPIES;
+        
+        before = usedHeap();
+        TranslationStore[] stores = new TranslationStore[COPIES];
+        for (int i = 0; i < COPIES; i++) {
+            stores[i] = TranslationStore.load();
+        }
+        long storeBytes = (usedHeap() - before) / COPIES;
+        
+        // About half with folded forms included (729 KB against 1418 KB on JDK 17)
+        assertTrue(storeBytes < mapBytes * 0.6, "store " + storeBytes + " bytes, four maps " + mapBytes + " bytes");
+        // The estimate logged at startup follows the same layout
+        assertEquals(storeBytes, stores[0].estimateRetainedBytes(), storeBytes * 0.1);
+        // Keeps every copy reachable until both layouts have been measured
+        assertTrue(maps[COPIES - 1] != null && stores[COPIES - 1] != null);
+    }
+    
+    private static Map<String, String> readLangFile(String resource) throws Exception {
+        Map<String, String> translations = new HashMap<>();
+        try (Reader reader = new InputStreamReader(TranslationStore.class.getResourceAsStream(resource), StandardCharsets.UTF_8)) {
+            TranslationStore.readTranslations(reader, translations);
+        }
+        return translations;
+    }
+    
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 6; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
\ No newline at end of file
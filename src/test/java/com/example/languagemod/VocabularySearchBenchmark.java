@@ -0,0 +1,81 @@
+package com.example.languagemod;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Offline benchmark of {@link VocabularySearchIndex} with exact, prefix and misspelled queries over the real
+ * en_us and es_mx vocabulary. Queries are generated from a fixed seed.
+ * <p>
+ * Usage: {@code VocabularySearchBenchmark <resourcesDir> [queriesPerKind]}
+ */
+public class VocabularySearchBenchmark {
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Usage: VocabularySearchBenchmark <resourcesDir> [queriesPerKind]");
+            System.exit(1);
+        }
+        File langDir = new File(args[0], "assets/languagemod/lang");
+        int queriesPerKind = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        TranslationStore store = TranslationStore.create(AnswerMatcherBenchmark.readJsonFile(new File(langDir, "en_us.json")),
+            AnswerMatcherBenchmark.readJsonFile(new File(langDir, "es_mx.json")));
+        
+        VocabularySearchIndex index = null;
+        long buildTime = 0;
+        for (int i = 0; i < 5; i++) {
+            long start = System.nanoTime();
+            index = new VocabularySearchIndex(store);
+            buildTime = System.nanoTime() - start;
+        }
+        System.out.printf("%d keys, %d word starts, %d trigrams, built in %.1f ms%n",
+            store.size(), index.getWordStartCount(), index.getTrigramCount(), buildTime / 1e6);
+        
+        List<Integer> ids = new ArrayList<>();
+        for (int id = 0; id < store.size(); id++) {
+            if (store.getEnglish(id) != null && store.getSpanish(id) != null) {
+                ids.add(id);
+            }
+        }
+        String[] kinds = {"exact Spanish", "3-letter English prefix", "Spanish with 1-2 typos"};
+        Random random = new Random(42);
+        for (int kind = 0; kind < kinds.length; kind++) {
+            String[] queries = new String[queriesPerKind];
+            int[] expected = new int[queriesPerKind];
+            for (int i = 0; i < queriesPerKind; i++) {
+                int id = ids.get(random.nextInt(ids.size()));
+                String english = store.getEnglish(id);
+                expected[i] = id;
+                queries[i] = kind == 0 ? store.getSpanish(id)
+                    : kind == 1 ? english.substring(0, Math.min(3, english.length()))
+                    : AnswerMatcherBenchmark.addTypos(store.getSpanish(id), 1 + random.nextInt(2), random);
+            }
+            
+            for (int round = 0; round < 5; round++) {
+                for (String query : queries) {
+                    index.search(query, 10);
+                }
+            }
+            long[] times = new long[queriesPerKind];
+            int found = 0;
+            for (int i = 0; i < queriesPerKind; i++) {
+                long start = System.nanoTime();
+                List<VocabularySearchIndex.Match> matches = index.search(queries[i], 10);
+                times[i] = System.nanoTime() - start;
+                for (VocabularySearchIndex.Match match : matches) {
+                    if (match.getId() == expected[i]) {
+                        found++;
+                        break;
+                    }
+                }
+            }
+            Arrays.sort(times);
+            System.out.printf("%-24s median %6.1f us, p99 %6.1f us, max %6.1f us, expected key in top 10: %.1f%%%n",
+                kinds[kind], times[queriesPerKind / 2] / 1e3, times[queriesPerKind * 99 / 100] / 1e3,
+                times[queriesPerKind - 1] / 1e3, found * 100.0 / queriesPerKind);
+        }
+    }
+}
\ No newline at end of file